@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює довільний доступ за індексом (<tt>get</tt>, <tt>set</tt>) та
+ * послідовний обхід ітераторами, зокрема через підсписок та його копію.
+ * Довільний доступ - одна операція на виклик, обхід - увесь список на виклик.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int digits;
+
+    NumberListImpl list;
+    int[] indexes; // заздалегідь згенеровані випадкові індекси
+    int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        list = new NumberListImpl();
+        for (int i = 0; i < digits; i++) {
+            list.add((byte) random.nextInt(2));
+        }
+        indexes = new int[1 << 12];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = random.nextInt(digits);
+        }
+    }
+
+    private int nextIndex() {
+        next = next + 1 & indexes.length - 1;
+        return indexes[next];
+    }
+
+    @Benchmark
+    public Byte randomGet() {
+        return list.get(nextIndex());
+    }
+
+    @Benchmark
+    public Byte randomSet() {
+        int index = nextIndex();
+        return list.set(index, list.get(index));
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int iterate() {
+        int ones = 0;
+        for (Iterator<Byte> it = list.iterator(); it.hasNext(); ) {
+            ones += it.next();
+        }
+        return ones;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int iterateHighHalfView() {
+        int ones = 0;
+        for (Byte digit : list.subList(0, digits / 2)) {
+            ones += digit;
+        }
+        return ones;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public NumberListImpl copyHighHalf() {
+        return list.subListCopy(0, digits / 2);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int listIterateBackward() {
+        int ones = 0;
+        for (ListIterator<Byte> it = list.listIterator(list.size()); it.hasPrevious(); ) {
+            ones += it.previous();
+        }
+        return ones;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вставка digits цифр у середину списку з digits цифр: одним викликом
+ * addAll (з колекції та з іншого NumberListImpl) та поелементно через
+ * add(index++, digit), як це робив addAll раніше.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddAllBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int digits;
+
+    List<Byte> source;
+    NumberListImpl sourceList;
+    NumberListImpl list;
+
+    @Setup(Level.Trial)
+    public void setUpSource() {
+        Random random = new Random(digits);
+        source = new ArrayList<>(digits);
+        for (int i = 0; i < digits; i++) {
+            source.add((byte) random.nextInt(2));
+        }
+        sourceList = new NumberListImpl();
+        sourceList.addAll(source);
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = sourceList.subListCopy(0, digits);
+    }
+
+    @Benchmark
+    public NumberListImpl addAllCollection() {
+        list.addAll(digits / 2, source);
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl addAllNumberList() {
+        list.addAll(digits / 2, sourceList);
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl addPerElement() {
+        int index = digits / 2;
+        for (Byte digit : source) {
+            list.add(index++, digit);
+        }
+        return list;
+    }
+}
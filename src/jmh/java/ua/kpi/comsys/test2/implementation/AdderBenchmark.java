@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Пропускна здатність {@link NumberListAdder} під 64 потоками-записувачами
+ * порівняно з одним {@link NumberListImpl} під спільним монітором, де
+ * кожне додавання створює новий список-суму.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(64)
+@Fork(1)
+public class AdderBenchmark {
+
+    @Param({"64", "4096"})
+    int digits;
+
+    NumberListImpl value;
+    NumberListAdder adder;
+    NumberListImpl total;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Random random = new Random(digits);
+        value = new NumberListImpl();
+        value.add((byte) 1);
+        for (int i = 1; i < digits; i++) {
+            value.add((byte) random.nextInt(2));
+        }
+        adder = new NumberListAdder();
+        total = new NumberListImpl();
+    }
+
+    @Benchmark
+    public void adderAdd() {
+        adder.add(value);
+    }
+
+    @Benchmark
+    public void adderIncrement() {
+        adder.increment();
+    }
+
+    @Benchmark
+    public void lockedAdd() {
+        synchronized (this) {
+            total = total.plus(value);
+        }
+    }
+
+    @Benchmark
+    public void lockedIncrement() {
+        NumberListImpl one = new NumberListImpl();
+        one.add((byte) 1);
+        synchronized (this) {
+            total = total.plus(one);
+        }
+    }
+}
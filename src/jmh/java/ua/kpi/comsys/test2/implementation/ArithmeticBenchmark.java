@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює додавання, віднімання та порівняння двох чисел однакової
+ * довжини. Усі три операції - один прохід по цифрах, тож час на цифру
+ * має бути сталим.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int digits;
+
+    NumberListImpl larger;
+    NumberListImpl smaller;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        larger = new NumberListImpl();
+        smaller = new NumberListImpl();
+        larger.add((byte) 1);
+        smaller.add((byte) 0);
+        for (int i = 1; i < digits; i++) {
+            larger.add((byte) random.nextInt(2));
+            smaller.add((byte) random.nextInt(2));
+        }
+    }
+
+    @Benchmark
+    public NumberListImpl add() {
+        return larger.plus(smaller);
+    }
+
+    @Benchmark
+    public NumberListImpl subtract() {
+        return larger.minus(smaller);
+    }
+
+    @Benchmark
+    public int compareTo() {
+        return larger.compareTo(smaller);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Множення та ділення двійкового числа на 2^k: арифметичними зсувами
+ * (кожен виклик повертає список у початковий стан) та через
+ * {@link NumberListImpl#multiply} і {@link NumberListImpl#additionalOperation}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArithmeticShiftBenchmark {
+
+    @Param({"10000", "1000000"})
+    int digits;
+
+    @Param({"64", "4096"})
+    int k;
+
+    @Param({"false", "true"})
+    boolean doublyLinked;
+
+    NumberListImpl list;
+    NumberListImpl power; // 2^k
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BigInteger value = new BigInteger(digits, new Random(digits)).setBit(digits - 1);
+        list = new NumberListImpl(value.toString());
+        list.setDoublyLinked(doublyLinked);
+        power = new NumberListImpl(BigInteger.ONE.shiftLeft(k).toString());
+    }
+
+    @Benchmark
+    public NumberListImpl shiftLeftRight() {
+        list.shiftLeftArithmetic(k);
+        list.shiftRightArithmetic(k);
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl multiplyDivide() {
+        return list.multiply(power).additionalOperation(power);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює повторні виклики toDecimalString, hashCode та changeScale без
+ * змін між ними (кешоване значення), а також той самий виклик після
+ * заміни однієї цифри, яка скидає кеш.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    @Param({"1000", "100000"})
+    int digits;
+
+    NumberListImpl list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        list = new NumberListImpl();
+        list.add((byte) 1);
+        for (int i = 1; i < digits; i++) {
+            list.add((byte) random.nextInt(2));
+        }
+    }
+
+    @Benchmark
+    public String cachedDecimal() {
+        return list.toDecimalString();
+    }
+
+    @Benchmark
+    public int cachedHashCode() {
+        return list.hashCode();
+    }
+
+    @Benchmark
+    public NumberListImpl cachedChangeScale() {
+        return list.changeScale();
+    }
+
+    @Benchmark
+    public int hashCodeAfterSet() {
+        list.set(digits - 1, list.get(digits - 1));
+        return list.hashCode();
+    }
+
+    @Benchmark
+    public String decimalAfterSet() {
+        list.set(digits - 1, list.get(digits - 1));
+        return list.toDecimalString();
+    }
+}
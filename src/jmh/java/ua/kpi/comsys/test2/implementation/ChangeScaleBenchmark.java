@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Порівнює переведення двійкового списку в трійкову систему методом
+ * "розділяй і володарюй" з попередньою реалізацією через десятковий
+ * рядок та <tt>BigInteger</tt>. Також вимірює переведення між іншими
+ * системами: перегрупування бітів між основами 2, 8 та 16 та
+ * переведення у десяткову систему.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ChangeScaleBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int digits; // кількість двійкових цифр числа
+
+    NumberListImpl list;
+    NumberListImpl hexadecimal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BigInteger value = new BigInteger(digits, new Random(digits)).setBit(digits - 1);
+        list = new NumberListImpl(value.toString());
+        hexadecimal = list.changeScale(16);
+    }
+
+    @Benchmark
+    public NumberListImpl changeScale() {
+        return list.changeScale();
+    }
+
+    /**
+     * Попередня реалізація: двійковий рядок -> десятковий рядок ->
+     * <tt>BigInteger</tt> -> трійковий рядок -> додавання по одній цифрі
+     */
+    @Benchmark
+    public NumberListImpl viaDecimalString() {
+        String decimal = new BigInteger(list.toString(), 2).toString();
+        String ternary = new BigInteger(decimal).toString(3);
+
+        NumberListImpl result = new NumberListImpl("0").changeScale();
+        for (int i = 0; i < ternary.length(); i++) {
+            result.add((byte) (ternary.charAt(i) - '0'));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public NumberListImpl binaryToHexadecimal() {
+        return list.changeScale(16);
+    }
+
+    @Benchmark
+    public NumberListImpl hexadecimalToOctal() {
+        return hexadecimal.changeScale(8);
+    }
+
+    @Benchmark
+    public NumberListImpl binaryToDecimal() {
+        return list.changeScale(10);
+    }
+
+    /**
+     * Шістнадцятковий список через <tt>BigInteger</tt> та десятковий рядок,
+     * як його довелося б будувати без {@link NumberListImpl#changeScale(int)}
+     */
+    @Benchmark
+    public NumberListImpl hexadecimalViaDecimalString() {
+        String hex = new BigInteger(list.toDecimalString()).toString(16);
+
+        NumberListImpl result = new NumberListImpl(16);
+        for (int i = 0; i < hex.length(); i++) {
+            result.add((byte) Character.digit(hex.charAt(i), 16));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Порівнює {@link ConcurrentNumberList} з обгорткою
+ * {@link Collections#synchronizedList(List)} під навантаженням, де сім
+ * потоків читають (get, кешований toDecimalString, contains), а один
+ * рідко змінює цифри (між змінами він виконує порожню роботу).
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentBenchmark {
+
+    private static final long WRITE_PAUSE = 1 << 16; // порожня робота між змінами (одиниці Blackhole)
+
+    @Param({"1000", "10000"})
+    int digits;
+
+    ConcurrentNumberList stamped;
+    NumberListImpl plain;
+    List<Byte> synchronizedList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        plain = new NumberListImpl();
+        plain.add((byte) 1);
+        for (int i = 1; i < digits; i++) {
+            plain.add((byte) random.nextInt(2));
+        }
+        stamped = new ConcurrentNumberList(plain);
+        synchronizedList = Collections.synchronizedList(plain);
+    }
+
+    private int index() {
+        return ThreadLocalRandom.current().nextInt(digits);
+    }
+
+    @Benchmark
+    @Group("stamped")
+    @GroupThreads(7)
+    public Object stampedRead() {
+        int choice = ThreadLocalRandom.current().nextInt(16);
+        if (choice == 0) {
+            return stamped.contains((byte) 0);
+        }
+        return choice == 1 ? stamped.toDecimalString() : stamped.get(index());
+    }
+
+    @Benchmark
+    @Group("stamped")
+    @GroupThreads(1)
+    public Object stampedWrite() {
+        // заміна цифри тим самим значенням все одно скидає кеш
+        Blackhole.consumeCPU(WRITE_PAUSE);
+        int index = index();
+        return stamped.set(index, stamped.get(index));
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(7)
+    public Object synchronizedRead() {
+        int choice = ThreadLocalRandom.current().nextInt(16);
+        if (choice == 0) {
+            return synchronizedList.contains((byte) 0);
+        }
+        if (choice == 1) {
+            synchronized (synchronizedList) { // монітор обгортки synchronizedList
+                return plain.toDecimalString();
+            }
+        }
+        return synchronizedList.get(index());
+    }
+
+    @Benchmark
+    @Group("synchronized")
+    @GroupThreads(1)
+    public Object synchronizedWrite() {
+        Blackhole.consumeCPU(WRITE_PAUSE);
+        int index = index();
+        return synchronizedList.set(index, synchronizedList.get(index));
+    }
+}
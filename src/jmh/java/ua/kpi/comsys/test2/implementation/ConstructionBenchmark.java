@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює час побудови <tt>NumberListImpl</tt> з рядка, з файлу (через
+ * конструктор та <tt>load</tt>) та послідовним додаванням цифр. Час на одну цифру має залишатися
+ * сталим при зростанні <tt>digits</tt> - тобто побудова лінійна.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstructionBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    int digits; // кількість двійкових цифр числа
+
+    String decimal;
+    File file;
+    byte[] binaryDigits;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BigInteger value = new BigInteger(digits, new Random(digits)).setBit(digits - 1);
+        decimal = value.toString();
+
+        file = File.createTempFile("construction", ".txt");
+        Files.write(file.toPath(), decimal.getBytes(StandardCharsets.US_ASCII));
+
+        binaryDigits = new byte[digits];
+        for (int i = 0; i < digits; i++) {
+            binaryDigits[i] = value.testBit(digits - 1 - i) ? (byte) 1 : (byte) 0;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public NumberListImpl appendDigits() {
+        NumberListImpl list = new NumberListImpl();
+        for (byte digit : binaryDigits) {
+            list.add(digit);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl fromString() {
+        return new NumberListImpl(decimal);
+    }
+
+    @Benchmark
+    public NumberListImpl fromFile() {
+        return new NumberListImpl(file);
+    }
+
+    @Benchmark
+    public NumberListImpl loadFile() throws IOException {
+        return NumberListImpl.load(file);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Операції, час яких визначає адресація цифри у вузлі (номер слова та
+ * зсув за індексом цифри): копіювання з незрівняного зміщення, додавання
+ * чисел та вставка з видаленням усередині вузла. Кількість цифр у слові
+ * (64, 32, 21, 16) залежить від основи.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DigitAddressingBenchmark {
+
+    @Param({"2", "3", "8", "10"})
+    int radix;
+
+    @Param({"100000"})
+    int digits;
+
+    NumberListImpl list;
+    NumberListImpl other;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        list = new NumberListImpl(radix);
+        other = new NumberListImpl(radix);
+        for (int i = 0; i < digits; i++) {
+            list.add((byte) random.nextInt(radix));
+            other.add((byte) random.nextInt(radix));
+        }
+    }
+
+    /**
+     * Копія без першої цифри: кожна цифра читається та записується окремо
+     */
+    @Benchmark
+    public NumberListImpl copyUnaligned() {
+        return list.subListCopy(1, digits);
+    }
+
+    @Benchmark
+    public NumberListImpl add() {
+        return list.plus(other);
+    }
+
+    /**
+     * Вставка та видалення цифри у середині списку
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Byte insertAndRemove() {
+        list.add(digits / 2, (byte) 1);
+        return list.remove(digits / 2);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ua.kpi.comsys.test2.NumberList;
+
+/**
+ * Вимірює <tt>additionalOperation</tt> (цілочисельне ділення) для
+ * діленого з <tt>digits</tt> двійкових цифр та дільника вдвічі коротшого.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DivisionBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int digits;
+
+    NumberListImpl dividend;
+    NumberListImpl divisor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        dividend = new NumberListImpl(new BigInteger(digits, random).setBit(digits - 1).toString());
+        int divisorDigits = Math.max(1, digits / 2);
+        divisor = new NumberListImpl(new BigInteger(divisorDigits, random).setBit(divisorDigits - 1).toString());
+    }
+
+    @Benchmark
+    public NumberList divide() {
+        return dividend.additionalOperation(divisor);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Точки переходу між алгоритмами множення. Кожен алгоритм виконує
+ * один рівень розбиття, а підзадачі множаться автоматичним вибором
+ * (<tt>Limbs.multiply</tt>), тож перетин кривих для сусідніх алгоритмів
+ * дає значення KARATSUBA_THRESHOLD та TOOM_COOK_THRESHOLD.
+ * Бенчмарк <tt>numberList</tt> вимірює повний шлях
+ * <tt>NumberListImpl.multiply</tt> разом з упаковуванням цифр.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiplyBenchmark {
+
+    @Param({"16", "32", "48", "64", "96", "128", "192", "256", "384", "512", "1024", "4096"})
+    int limbs; // розмір кожного множника у 32-бітних словах
+
+    int[] a;
+    int[] b;
+    NumberListImpl x;
+    NumberListImpl y;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(limbs);
+        a = new int[limbs];
+        b = new int[limbs];
+        for (int i = 0; i < limbs; i++) {
+            a[i] = random.nextInt();
+            b[i] = random.nextInt();
+        }
+        a[limbs - 1] |= 1;
+        b[limbs - 1] |= 1;
+        x = NumberListImpl.fromLimbs(a);
+        y = NumberListImpl.fromLimbs(b);
+    }
+
+    @Benchmark
+    public int[] schoolbook() {
+        return Limbs.multiplySchoolbook(a, b);
+    }
+
+    @Benchmark
+    public int[] karatsuba() {
+        return Limbs.multiplyKaratsuba(a, b);
+    }
+
+    @Benchmark
+    public int[] toomCook3() {
+        return Limbs.multiplyToomCook3(a, b);
+    }
+
+    @Benchmark
+    public NumberListImpl numberList() {
+        return x.multiply(y);
+    }
+}
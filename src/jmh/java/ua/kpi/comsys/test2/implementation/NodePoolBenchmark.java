@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Операції, що по черзі вилучають і додають вузли, з пулом вузлів та без
+ * нього. Виділення пам'яті на операцію видно при запуску через
+ * <tt>make bench-gc</tt> (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodePoolBenchmark {
+
+    @Param({"10000", "1000000"})
+    int digits;
+
+    @Param({"0", "256"})
+    int poolLimit;
+
+    NumberListImpl list;
+    NumberListImpl scratch;
+    int shift; // кількість відкинутих та дописаних цифр
+    byte[] source;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        source = new byte[10000];
+        for (int i = 0; i < source.length; i++) {
+            source[i] = (byte) random.nextInt(2);
+        }
+        source[0] = 1;
+
+        list = new NumberListImpl();
+        for (int i = 0; i < digits; i++) {
+            list.add(source[i % source.length]);
+        }
+        list.setNodePoolLimit(poolLimit);
+        shift = Math.min(32768, digits / 2);
+        scratch = new NumberListImpl();
+        scratch.setNodePoolLimit(poolLimit);
+    }
+
+    /**
+     * Відкидає та знову дописує до 64 вузлів молодших цифр
+     */
+    @Benchmark
+    public NumberListImpl truncateAndExtend() {
+        list.shiftRightArithmetic(shift);
+        list.shiftLeftArithmetic(shift);
+        return list;
+    }
+
+    /**
+     * Очищає робочий список та заповнює його 10000 цифрами заново
+     */
+    @Benchmark
+    public NumberListImpl clearAndRebuild() {
+        scratch.clear();
+        for (byte digit : source) {
+            scratch.add(digit);
+        }
+        return scratch;
+    }
+}
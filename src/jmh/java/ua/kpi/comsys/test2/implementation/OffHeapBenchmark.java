@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Порівняння {@link OffHeapNumberList} з {@link NumberListImpl}: заповнення
+ * списку, довільний доступ та переведення в десятковий запис. Виділення
+ * пам'яті в купі на операцію видно при запуску через <tt>make bench-gc</tt>
+ * (gc.alloc.rate.norm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapBenchmark {
+
+    @Param({"10000", "1000000"})
+    int digits;
+
+    byte[] source;
+    int[] indices; // випадкові позиції для довільного доступу
+    NumberListImpl heapList;
+    OffHeapNumberList offHeapList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        source = new byte[digits];
+        for (int i = 0; i < digits; i++) {
+            source[i] = (byte) random.nextInt(2);
+        }
+        source[0] = 1;
+        indices = new int[1024];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(digits);
+        }
+
+        heapList = new NumberListImpl();
+        offHeapList = new OffHeapNumberList();
+        for (byte digit : source) {
+            heapList.add(digit);
+            offHeapList.add(digit);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        offHeapList.close();
+    }
+
+    @Benchmark
+    public NumberListImpl buildHeap() {
+        NumberListImpl list = new NumberListImpl();
+        for (byte digit : source) {
+            list.add(digit);
+        }
+        return list;
+    }
+
+    /**
+     * Сегмент звільняється одразу після побудови
+     */
+    @Benchmark
+    public int buildOffHeap() {
+        try (OffHeapNumberList list = new OffHeapNumberList()) {
+            for (byte digit : source) {
+                list.add(digit);
+            }
+            return list.size();
+        }
+    }
+
+    @Benchmark
+    public int randomGetHeap() {
+        int sum = 0;
+        for (int index : indices) {
+            sum += heapList.get(index);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int randomGetOffHeap() {
+        int sum = 0;
+        for (int index : indices) {
+            sum += offHeapList.get(index);
+        }
+        return sum;
+    }
+
+    /**
+     * Без кешу десяткового запису, як і для списку поза купою
+     */
+    @Benchmark
+    public String toDecimalHeap() {
+        heapList.set(0, (byte) 1);
+        return heapList.toDecimalString();
+    }
+
+    @Benchmark
+    public String toDecimalOffHeap() {
+        return offHeapList.toDecimalString();
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Порівнює послідовний та паралельний <tt>toDecimalString</tt> залежно
+ * від кількості потоків пулу та порогу паралельності.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelDecimalBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int digits; // кількість двійкових цифр числа
+
+    @Param({"1", "4", "16"})
+    int threads;
+
+    @Param({"10000", "100000"})
+    int threshold; // кількість десяткових цифр, нижче якої частини переводяться послідовно
+
+    NumberListImpl list;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BigInteger value = new BigInteger(digits, new Random(digits)).setBit(digits - 1);
+        list = new NumberListImpl(value.toString());
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public String sequential() {
+        return list.toDecimalString();
+    }
+
+    @Benchmark
+    public String parallel() {
+        return list.toDecimalString(pool, threshold);
+    }
+}
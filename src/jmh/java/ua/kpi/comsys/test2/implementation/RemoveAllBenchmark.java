@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Видалення приблизно половини цифр випадкового числа: removeAll,
+ * retainAll, removeIf (ущільнення за один обхід) та видалення через
+ * ітератор, а також поелементне remove(Object), як це робив removeAll раніше.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemoveAllBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int digits;
+
+    NumberListImpl source;
+    NumberListImpl list;
+
+    @Setup(Level.Trial)
+    public void setUpSource() {
+        Random random = new Random(digits);
+        source = new NumberListImpl();
+        for (int i = 0; i < digits; i++) {
+            source.add((byte) random.nextInt(2));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = source.subListCopy(0, digits);
+    }
+
+    @Benchmark
+    public NumberListImpl removeAll() {
+        list.removeAll(Collections.singleton((byte) 0));
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl retainAll() {
+        list.retainAll(Collections.singleton((byte) 1));
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl removeIf() {
+        list.removeIf(digit -> digit == 0);
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl iteratorRemove() {
+        for (Iterator<Byte> it = list.iterator(); it.hasNext(); ) {
+            if (it.next() == 0) {
+                it.remove();
+            }
+        }
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl removeEach() {
+        Byte zero = 0;
+        while (list.remove(zero)) {
+            // кожне видалення шукає цифру від голови
+        }
+        return list;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Обхід від молодшої цифри до старшої через previous(), видалення всіх
+ * цифр з кінця та поворот кільця вправо в однонаправленому та
+ * двонаправленому кільцях.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReverseBenchmark {
+
+    @Param({"10000", "1000000"})
+    int digits;
+
+    @Param({"false", "true"})
+    boolean doublyLinked;
+
+    NumberListImpl source;
+    NumberListImpl list;
+
+    @Setup(Level.Trial)
+    public void setUpSource() {
+        Random random = new Random(digits);
+        source = new NumberListImpl();
+        source.setDoublyLinked(doublyLinked);
+        for (int i = 0; i < digits; i++) {
+            source.add((byte) random.nextInt(2));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list = source.subListCopy(0, digits);
+        list.setDoublyLinked(doublyLinked);
+    }
+
+    @Benchmark
+    public void iterateBackward(Blackhole bh) {
+        for (ListIterator<Byte> it = source.listIterator(digits); it.hasPrevious(); ) {
+            bh.consume(it.previous());
+        }
+    }
+
+    @Benchmark
+    public NumberListImpl removeFromEnd() {
+        while (!list.isEmpty()) {
+            list.remove(list.size() - 1);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl shiftRight() {
+        // кожен поворот переносить одну цифру з хвоста на початок
+        for (int i = 0; i < 1000; i++) {
+            list.shiftRight();
+        }
+        return list;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Циклічний зсув на k позицій праворуч: одним викликом shiftRight(k)
+ * та k викликами shiftRight(), як це доводилося робити раніше.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotationBenchmark {
+
+    @Param({"10000", "1000000"})
+    int digits;
+
+    @Param({"1000", "250000"})
+    int k;
+
+    @Param({"false", "true"})
+    boolean doublyLinked;
+
+    NumberListImpl list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        list = new NumberListImpl();
+        for (int i = 0; i < digits; i++) {
+            list.add((byte) random.nextInt(2));
+        }
+        list.setDoublyLinked(doublyLinked);
+    }
+
+    @Benchmark
+    public NumberListImpl shiftRightCounted() {
+        list.shiftRight(k);
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl shiftRightSteps() {
+        for (int i = 0; i < k; i++) {
+            list.shiftRight();
+        }
+        return list;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює запис числа у десятковій системі: у файл, у потік без
+ * накопичення та через повний рядок <tt>toDecimalString</tt>.
+ * З <tt>-prof gc</tt> видно, що потоковий запис не виділяє пам'яті
+ * під весь рядок.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int digits; // кількість двійкових цифр числа
+
+    NumberListImpl list;
+    File file;
+
+    // потік, що відкидає всі байти
+    final OutputStream discard = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BigInteger value = new BigInteger(digits, new Random(digits)).setBit(digits - 1);
+        list = new NumberListImpl(value.toString());
+        file = File.createTempFile("save", ".txt");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public void saveList() {
+        list.saveList(file);
+    }
+
+    @Benchmark
+    public void writeToStream() throws IOException {
+        list.writeDecimal(discard);
+    }
+
+    @Benchmark
+    public String toDecimalString() {
+        return list.toDecimalString();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює циклічні зсуви та вставку і видалення на кінцях списку.
+ * Кожен виклик залишає список у початковому стані, тож час не
+ * залежить від кількості повторів.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShiftBenchmark {
+
+    @Param({"10", "1000", "100000", "10000000"})
+    int digits;
+
+    NumberListImpl list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        list = new NumberListImpl();
+        for (int i = 0; i < digits; i++) {
+            list.add((byte) random.nextInt(2));
+        }
+    }
+
+    @Benchmark
+    public NumberListImpl shiftLeftRight() {
+        list.shiftLeft();
+        list.shiftRight();
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl addRemoveFirst() {
+        list.add(0, (byte) 1);
+        list.remove(0);
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl addRemoveLast() {
+        list.add((byte) 1);
+        list.remove(list.size() - 1);
+        return list;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Порівнює збереження та завантаження числа через двійковий знімок
+ * і через десятковий текст (<tt>saveList</tt> та <tt>load</tt>).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    int digits; // кількість двійкових цифр числа
+
+    NumberListImpl list;
+    File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BigInteger value = new BigInteger(digits, new Random(digits)).setBit(digits - 1);
+        list = new NumberListImpl(value.toString());
+        file = File.createTempFile("snapshot", ".bin");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public NumberListImpl snapshotRoundTrip() throws IOException {
+        list.saveSnapshot(file);
+        return NumberListImpl.loadSnapshot(file);
+    }
+
+    @Benchmark
+    public NumberListImpl decimalRoundTrip() throws IOException {
+        list.saveList(file);
+        return NumberListImpl.load(file);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює сортування підрахунком на списках від 10^3 до 10^7 цифр.
+ * Перед кожним викликом список заповнюється випадковими цифрами заново.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000", "10000000"})
+    int digits;
+
+    NumberListImpl list;
+    byte[] source;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        source = new byte[digits];
+        list = new NumberListImpl();
+        for (int i = 0; i < digits; i++) {
+            source[i] = (byte) random.nextInt(2);
+            list.add(source[i]);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void shuffle() {
+        ListIterator<Byte> it = list.listIterator();
+        for (byte digit : source) {
+            it.next();
+            it.set(digit);
+        }
+    }
+
+    @Benchmark
+    public NumberListImpl sortAscending() {
+        list.sortAscending();
+        return list;
+    }
+
+    @Benchmark
+    public NumberListImpl sortDescending() {
+        list.sortDescending();
+        return list;
+    }
+}
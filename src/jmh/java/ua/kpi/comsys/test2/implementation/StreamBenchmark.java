@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2014-2025, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Вимірює згортки потоку цифр (кількість одиниць та контрольна сума)
+ * залежно від кількості потоків. Паралельний потік виконується у
+ * власному ForkJoinPool з <tt>threads</tt> потоками; <tt>threads = 1</tt>
+ * відповідає послідовному потоку.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int digits;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    int threads;
+
+    NumberListImpl list;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(digits);
+        list = new NumberListImpl();
+        for (int i = 0; i < digits; i++) {
+            list.add((byte) random.nextInt(2));
+        }
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long countOnes() throws InterruptedException, ExecutionException {
+        if (threads == 1) {
+            return list.stream().filter(d -> d == 1).count();
+        }
+        return pool.submit(() -> list.parallelStream().filter(d -> d == 1).count()).get();
+    }
+
+    @Benchmark
+    public long checksum() throws InterruptedException, ExecutionException {
+        if (threads == 1) {
+            return list.stream().mapToLong(d -> d * 31L + 7).sum();
+        }
+        return pool.submit(() -> list.parallelStream().mapToLong(d -> d * 31L + 7).sum()).get();
+    }
+}
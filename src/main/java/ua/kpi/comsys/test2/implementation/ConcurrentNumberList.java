@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2014, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import ua.kpi.comsys.test2.NumberList;
+
+/**
+ * Потокобезпечний список цифр поверх {@link NumberListImpl}, розрахований
+ * на часті читання та рідкісні зміни. Зміни виконуються під монопольним
+ * блокуванням {@link StampedLock}.
+ *
+ * Короткі читання (size, get, кешований десятковий запис) виконуються
+ * оптимістично, без запису у спільний стан блокування: якщо під час
+ * читання список змінився, читання повторюється під спільним блокуванням.
+ * Обходи всього списку (contains, indexOf, toDecimalString без кешу тощо)
+ * одразу беруть спільне блокування - неперевірений обхід кільця, яке
+ * одночасно змінюється, не гарантує навіть завершення циклу.
+ *
+ * Ітератори та підсписки є незмінними знімками стану на момент виклику;
+ * масові зміни (removeIf, replaceAll, sort) тому не йдуть через ітератор,
+ * а виконуються над самим списком під монопольним блокуванням.
+ *
+ * @author Коваль Богдан Андрійович
+ */
+public class ConcurrentNumberList implements NumberList {
+
+    private final NumberListImpl list; // список, доступ до якого захищено блокуванням
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Створює порожній список
+     */
+    public ConcurrentNumberList() {
+        this.list = new NumberListImpl();
+    }
+
+    /**
+     * Створює список з копією цифр source (у тій самій системі числення)
+     *
+     * @param source - list whose digits are copied.
+     */
+    public ConcurrentNumberList(NumberListImpl source) {
+        this.list = source.copy();
+    }
+
+    /**
+     * Читання без блокування з перевіркою; при невдалій перевірці або
+     * винятку через неузгоджений стан - повтор під спільним блокуванням
+     */
+    private <T> T optimisticRead(Supplier<T> action) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                T result = action.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // список змінювався під час читання - повторюємо під блокуванням
+            }
+        }
+        return read(action);
+    }
+
+    /**
+     * Читання під спільним блокуванням
+     */
+    private <T> T read(Supplier<T> action) {
+        long stamp = lock.readLock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Зміна під монопольним блокуванням
+     */
+    private <T> T write(Supplier<T> action) {
+        long stamp = lock.writeLock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Повертає незалежну копію поточного стану списку.
+     *
+     * @return new <tt>NumberListImpl</tt> with the same digits.
+     */
+    public NumberListImpl snapshot() {
+        return read(list::copy);
+    }
+
+    /**
+     * Returns string representation of number, stored in the list
+     * in <b>decimal</b> scale of notation.
+     *
+     * @return string representation in <b>decimal</b> scale.
+     */
+    public String toDecimalString() {
+        String decimal = optimisticRead(list::cachedDecimal);
+        return decimal != null ? decimal : read(list::toDecimalString);
+    }
+
+    /**
+     * Returns new <tt>NumberListImpl</tt> which represents the same number
+     * in other scale of notation, defined by personal test assignment.
+     *
+     * @return <tt>NumberListImpl</tt> in other scale of notation.
+     */
+    public NumberListImpl changeScale() {
+        return read(list::changeScale);
+    }
+
+    /**
+     * Returns new <tt>NumberListImpl</tt> which represents the same number
+     * in specified scale of notation.
+     *
+     * @param targetBase - scale of notation of the result: 2, 3, 8, 10 or 16.
+     * @return <tt>NumberListImpl</tt> in specified scale of notation.
+     */
+    public NumberListImpl changeScale(int targetBase) {
+        return read(() -> list.changeScale(targetBase));
+    }
+
+    /**
+     * Returns new <tt>NumberListImpl</tt> which represents the result of
+     * additional operation, defined by personal test assignment.
+     *
+     * @param arg - second argument of additional operation (divisor).
+     * @return result of additional operation (quotient).
+     */
+    public NumberListImpl additionalOperation(NumberList arg) {
+        NumberList divisor = stable(arg);
+        return read(() -> list.additionalOperation(divisor));
+    }
+
+    /**
+     * Знімок аргументу, якщо це інший потокобезпечний список: два блокування
+     * одночасно не утримуються, тому взаємне блокування неможливе
+     */
+    private NumberList stable(Object o) {
+        if (o instanceof ConcurrentNumberList && o != this) {
+            return ((ConcurrentNumberList) o).snapshot();
+        }
+        return (NumberList) o;
+    }
+
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+        int size = list.size();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                size = list.size();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Byte get(int index) {
+        return optimisticRead(() -> list.get(index));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return read(() -> list.contains(o));
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return read(() -> list.indexOf(o));
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return read(() -> list.lastIndexOf(o));
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        Collection<?> elements = c == this ? snapshot() : c;
+        return read(() -> list.containsAll(elements));
+    }
+
+    @Override
+    public Object[] toArray() {
+        return read(list::toArray);
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return read(() -> list.toArray(a));
+    }
+
+    @Override
+    public Iterator<Byte> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<Byte> listIterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<Byte> listIterator(int index) {
+        return Collections.unmodifiableList(snapshot()).listIterator(index);
+    }
+
+    @Override
+    public List<Byte> subList(int fromIndex, int toIndex) {
+        return Collections.unmodifiableList(read(() -> list.subListCopy(fromIndex, toIndex)));
+    }
+
+    @Override
+    public boolean add(Byte e) {
+        return write(() -> list.add(e));
+    }
+
+    @Override
+    public void add(int index, Byte element) {
+        write(() -> {
+            list.add(index, element);
+            return null;
+        });
+    }
+
+    @Override
+    public Byte set(int index, Byte element) {
+        return write(() -> list.set(index, element));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return write(() -> list.remove(o));
+    }
+
+    @Override
+    public Byte remove(int index) {
+        return write(() -> list.remove(index));
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Byte> c) {
+        Collection<? extends Byte> elements = c == this ? snapshot() : c;
+        return write(() -> list.addAll(elements));
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Byte> c) {
+        Collection<? extends Byte> elements = c == this ? snapshot() : c;
+        return write(() -> list.addAll(index, elements));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Collection<?> elements = c == this ? snapshot() : c;
+        return write(() -> list.removeAll(elements));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Collection<?> elements = c == this ? snapshot() : c;
+        return write(() -> list.retainAll(elements));
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Byte> filter) {
+        return write(() -> list.removeIf(filter));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<Byte> operator) {
+        write(() -> {
+            list.replaceAll(operator);
+            return null;
+        });
+    }
+
+    @Override
+    public void sort(Comparator<? super Byte> c) {
+        write(() -> {
+            list.sort(c);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        write(() -> {
+            list.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean swap(int index1, int index2) {
+        return write(() -> list.swap(index1, index2));
+    }
+
+    @Override
+    public void sortAscending() {
+        write(() -> {
+            list.sortAscending();
+            return null;
+        });
+    }
+
+    @Override
+    public void sortDescending() {
+        write(() -> {
+            list.sortDescending();
+            return null;
+        });
+    }
+
+    @Override
+    public void shiftLeft() {
+        write(() -> {
+            list.shiftLeft();
+            return null;
+        });
+    }
+
+    @Override
+    public void shiftRight() {
+        write(() -> {
+            list.shiftRight();
+            return null;
+        });
+    }
+
+    /**
+     * Performs left cyclic shift by k positions.
+     *
+     * @param k - number of positions, reduced modulo size.
+     */
+    public void shiftLeft(int k) {
+        write(() -> {
+            list.shiftLeft(k);
+            return null;
+        });
+    }
+
+    /**
+     * Performs right cyclic shift by k positions.
+     *
+     * @param k - number of positions, reduced modulo size.
+     */
+    public void shiftRight(int k) {
+        write(() -> {
+            list.shiftRight(k);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NumberList)) return false;
+
+        NumberList other = stable(o);
+        return read(() -> list.equals(other));
+    }
+
+    @Override
+    public int hashCode() {
+        return read(list::hashCode);
+    }
+
+    @Override
+    public String toString() {
+        return read(list::toString);
+    }
+}
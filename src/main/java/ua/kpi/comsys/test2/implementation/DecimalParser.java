@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2014, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Arrays;
+
+/**
+ * Потоковий розбір десяткового числа у масив слів {@link Limbs}.
+ * Цифри надходять по одній і збираються у блоки фіксованого розміру
+ * {@link #CHUNK_DIGITS}; готові блоки об'єднуються попарно, як розряди
+ * двійкового лічильника: hi * 10^len + lo. Тому, окрім самого результату,
+ * парсер тримає в пам'яті лише один блок, а загальний час розбору
+ * визначається швидкістю множення довгих чисел.
+ *
+ * @author Коваль Богдан Андрійович
+ */
+final class DecimalParser {
+
+    // кількість десяткових цифр у блоці: 9 * 2^12, тобто степінь 10^(9 * 2^k)
+    static final int CHUNK_LEVEL = 12;
+    static final int CHUNK_DIGITS = 9 << CHUNK_LEVEL;
+
+    private static final int GROUP_DIGITS = 9; // цифр в одному слові
+    private static final int GROUP_BASE = 1_000_000_000;
+
+    // поточний блок та неповна група цифр
+    private final int[] chunk = new int[(int) (CHUNK_DIGITS * Math.log(10) / Math.log(2) / 32) + 2];
+    private int chunkLength;
+    private int chunkDigits;
+    private int group;
+    private int groupDigits;
+
+    // стек готових блоків: значення та рівень (блок містить CHUNK_DIGITS * 2^level цифр)
+    private int[][] values = new int[8][];
+    private int[] levels = new int[8];
+    private int depth;
+
+    // стан розбору тексту: пробіли перед числом, знак, цифри, пробіли після числа
+    private static final int LEADING = 0;
+    private static final int SIGN = 1;
+    private static final int DIGITS = 2;
+    private static final int TRAILING = 3;
+
+    private int state = LEADING;
+    private long position; // позиція наступного символу
+
+    /**
+     * Приймає черговий символ тексту: необов'язкові пробіли, знак '+',
+     * десяткові цифри, необов'язкові пробіли
+     *
+     * @throws NumberFormatException якщо символ не може бути частиною числа
+     */
+    void accept(int ch) {
+        if (ch >= '0' && ch <= '9' && state <= DIGITS) {
+            state = DIGITS;
+            digit(ch - '0');
+        } else if (ch == ' ' || ch == '\t' || ch == '\r' || ch == '\n') {
+            if (state == SIGN) {
+                throw new NumberFormatException("No digits after sign at position " + position);
+            }
+            if (state == DIGITS) {
+                state = TRAILING;
+            }
+        } else if (ch == '+' && state == LEADING) {
+            state = SIGN;
+        } else if (ch == '-' && state == LEADING) {
+            throw new NumberFormatException("Negative numbers are not supported");
+        } else {
+            throw new NumberFormatException("Invalid character '" + (char) ch + "' at position " + position);
+        }
+        position++;
+    }
+
+    /**
+     * Приймає чергову десяткову цифру (від старшої до молодшої)
+     */
+    void digit(int value) {
+        group = group * 10 + value;
+        if (++groupDigits == GROUP_DIGITS) {
+            chunkLength = Limbs.mulAdd(chunk, chunkLength, GROUP_BASE, group);
+            chunkDigits += GROUP_DIGITS;
+            group = 0;
+            groupDigits = 0;
+            if (chunkDigits == CHUNK_DIGITS) {
+                push(Limbs.trim(chunk, chunkLength), 0);
+                Arrays.fill(chunk, 0, chunkLength, 0);
+                chunkLength = 0;
+                chunkDigits = 0;
+            }
+        }
+    }
+
+    /**
+     * Завершує розбір та повертає значення числа
+     */
+    int[] finish() {
+        if (state == SIGN) {
+            throw new NumberFormatException("No digits after sign at position " + position);
+        }
+
+        // неповний останній блок
+        int tailDigits = chunkDigits + groupDigits;
+        if (groupDigits > 0) {
+            int multiplier = 1;
+            for (int i = 0; i < groupDigits; i++) {
+                multiplier *= 10;
+            }
+            chunkLength = Limbs.mulAdd(chunk, chunkLength, multiplier, group);
+        }
+        int[] tail = Limbs.trim(chunk, chunkLength);
+
+        // згортаємо стек від найстаршого блоку до наймолодшого
+        int[] result = Limbs.EMPTY;
+        for (int i = 0; i < depth; i++) {
+            result = Limbs.add(Limbs.multiply(result, RadixConversion.power(10, CHUNK_LEVEL + levels[i])), values[i]);
+            values[i] = null;
+        }
+        if (tailDigits > 0) {
+            result = Limbs.add(Limbs.multiply(result, RadixConversion.pow(10, tailDigits)), tail);
+        }
+        depth = 0;
+        return result;
+    }
+
+    /**
+     * Додає готовий блок у стек, об'єднуючи блоки однакового розміру
+     */
+    private void push(int[] value, int level) {
+        while (depth > 0 && levels[depth - 1] == level) {
+            int[] high = values[--depth];
+            values[depth] = null;
+            value = Limbs.add(Limbs.multiply(high, RadixConversion.power(10, CHUNK_LEVEL + level)), value);
+            level++;
+        }
+        if (depth == values.length) {
+            values = Arrays.copyOf(values, depth * 2);
+            levels = Arrays.copyOf(levels, depth * 2);
+        }
+        values[depth] = value;
+        levels[depth++] = level;
+    }
+}
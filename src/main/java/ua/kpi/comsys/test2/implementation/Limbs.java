@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2014, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Arrays;
+
+/**
+ * Допоміжні операції над невід'ємними числами у вигляді масиву 32-бітних
+ * беззнакових слів (limbs) у порядку від молодшого до старшого.
+ * Нормалізований масив не має старших нульових слів; нуль - порожній масив.
+ *
+ * @author Коваль Богдан Андрійович
+ */
+final class Limbs {
+
+    static final int[] EMPTY = new int[0];
+    static final long MASK = 0xFFFFFFFFL; // маска беззнакового слова
+
+    // мінімальний розмір множників (у словах) для множення Карацуби
+    static final int KARATSUBA_THRESHOLD = 48;
+    // мінімальний розмір множників (у словах) для множення Тоома-Кука (Toom-3)
+    static final int TOOM_COOK_THRESHOLD = 240;
+
+    private Limbs() {
+    }
+
+    /**
+     * Повертає нормалізовану копію перших len слів масиву
+     */
+    static int[] trim(int[] a, int len) {
+        while (len > 0 && a[len - 1] == 0) {
+            len--;
+        }
+        return len == a.length ? a : Arrays.copyOf(a, len);
+    }
+
+    static int[] trim(int[] a) {
+        return trim(a, a.length);
+    }
+
+    static int[] valueOf(long value) {
+        return trim(new int[] {(int) value, (int) (value >>> 32)});
+    }
+
+    static long bitLength(int[] a) {
+        if (a.length == 0) {
+            return 0;
+        }
+        return 32L * a.length - Integer.numberOfLeadingZeros(a[a.length - 1]);
+    }
+
+    /**
+     * Порівнює два нормалізовані числа
+     */
+    static int compare(int[] a, int[] b) {
+        if (a.length != b.length) {
+            return a.length < b.length ? -1 : 1;
+        }
+        for (int i = a.length - 1; i >= 0; i--) {
+            if (a[i] != b[i]) {
+                return Integer.compareUnsigned(a[i], b[i]) < 0 ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    static int[] add(int[] a, int[] b) {
+        if (a.length < b.length) {
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+
+        int[] result = new int[a.length + 1];
+        long carry = 0;
+        for (int i = 0; i < a.length; i++) {
+            long sum = (a[i] & MASK) + (i < b.length ? b[i] & MASK : 0) + carry;
+            result[i] = (int) sum;
+            carry = sum >>> 32;
+        }
+        result[a.length] = (int) carry;
+        return trim(result);
+    }
+
+    /**
+     * Повертає a - b; вимагає a >= b
+     */
+    static int[] subtract(int[] a, int[] b) {
+        int[] result = new int[a.length];
+        long borrow = 0;
+        for (int i = 0; i < a.length; i++) {
+            long diff = (a[i] & MASK) - (i < b.length ? b[i] & MASK : 0) - borrow;
+            result[i] = (int) diff;
+            borrow = diff < 0 ? 1 : 0;
+        }
+        if (borrow != 0) {
+            throw new ArithmeticException("Negative result of subtraction");
+        }
+        return trim(result);
+    }
+
+    /**
+     * Множення: "в стовпчик" для коротких чисел, Карацуби - для довгих,
+     * Тоома-Кука - для дуже довгих. Сильно різні за довжиною множники
+     * множаться блоками довжини коротшого.
+     */
+    static int[] multiply(int[] a, int[] b) {
+        if (a.length < b.length) {
+            int[] t = a;
+            a = b;
+            b = t;
+        }
+        if (b.length < KARATSUBA_THRESHOLD) {
+            return multiplySchoolbook(a, b);
+        }
+        if (a.length >= 2 * b.length) {
+            return multiplyUnbalanced(a, b);
+        }
+        if (b.length < TOOM_COOK_THRESHOLD) {
+            return multiplyKaratsuba(a, b);
+        }
+        return multiplyToomCook3(a, b);
+    }
+
+    /**
+     * Множення довгого a на значно коротше b: a ділиться на блоки довжини b
+     */
+    private static int[] multiplyUnbalanced(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length + 1];
+        for (int offset = 0; offset < a.length; offset += b.length) {
+            int[] block = trim(Arrays.copyOfRange(a, offset, Math.min(a.length, offset + b.length)));
+            addShifted(result, multiply(block, b), offset);
+        }
+        return trim(result);
+    }
+
+    /**
+     * Множення Карацуби: три множення половинних розмірів замість чотирьох
+     */
+    static int[] multiplyKaratsuba(int[] a, int[] b) {
+        // a = a1 * B + a0, b = b1 * B + b0, де B = 2^(32 * half)
+        int half = (Math.max(a.length, b.length) + 1) / 2;
+        int[] a0 = low(a, half);
+        int[] a1 = high(a, half);
+        int[] b0 = low(b, half);
+        int[] b1 = high(b, half);
+
+        int[] p0 = multiply(a0, b0);
+        int[] p2 = multiply(a1, b1);
+        int[] p1 = subtract(subtract(multiply(add(a0, a1), add(b0, b1)), p0), p2);
+
+        int[] result = new int[a.length + b.length + 1];
+        addShifted(result, p0, 0);
+        addShifted(result, p1, half);
+        addShifted(result, p2, 2 * half);
+        return trim(result);
+    }
+
+    /**
+     * Множення Тоома-Кука (Toom-3): множники діляться на три частини,
+     * добуток відновлюється за значеннями в точках 0, 1, -1, 2 та нескінченності
+     * (п'ять множень третинних розмірів). Послідовність інтерполяції - Bodrato.
+     */
+    static int[] multiplyToomCook3(int[] a, int[] b) {
+        int k = (Math.max(a.length, b.length) + 2) / 3;
+        Signed a0 = Signed.of(low(a, k));
+        Signed a1 = Signed.of(low(high(a, k), k));
+        Signed a2 = Signed.of(high(a, 2 * k));
+        Signed b0 = Signed.of(low(b, k));
+        Signed b1 = Signed.of(low(high(b, k), k));
+        Signed b2 = Signed.of(high(b, 2 * k));
+
+        // значення в точках
+        Signed v0 = a0.multiply(b0);
+        Signed da = a2.add(a0);
+        Signed db = b2.add(b0);
+        Signed vm1 = da.subtract(a1).multiply(db.subtract(b1));
+        da = da.add(a1);
+        db = db.add(b1);
+        Signed v1 = da.multiply(db);
+        Signed v2 = da.add(a2).shiftLeft(1).subtract(a0)
+                .multiply(db.add(b2).shiftLeft(1).subtract(b0));
+        Signed vInf = a2.multiply(b2);
+
+        // інтерполяція: коефіцієнти c0 = v0, c1 = tm1, c2 = t1, c3 = t2, c4 = vInf
+        Signed t2 = v2.subtract(vm1).divideBy3();
+        Signed tm1 = v1.subtract(vm1).shiftRight(1);
+        Signed t1 = v1.subtract(v0);
+        t2 = t2.subtract(t1).shiftRight(1);
+        t1 = t1.subtract(tm1).subtract(vInf);
+        t2 = t2.subtract(vInf.shiftLeft(1));
+        tm1 = tm1.subtract(t2);
+
+        int[] result = new int[a.length + b.length + 1];
+        addShifted(result, v0.mag, 0);
+        addShifted(result, tm1.mag, k);
+        addShifted(result, t1.mag, 2 * k);
+        addShifted(result, t2.mag, 3 * k);
+        addShifted(result, vInf.mag, 4 * k);
+        return trim(result);
+    }
+
+    /**
+     * Число зі знаком для проміжних значень Toom-3 (коефіцієнти добутку
+     * невід'ємні, але значення в точці -1 та проміжні різниці - ні)
+     */
+    private static final class Signed {
+        final int sign; // -1, 0 або 1
+        final int[] mag; // нормалізований модуль
+
+        private Signed(int sign, int[] mag) {
+            this.sign = mag.length == 0 ? 0 : sign;
+            this.mag = mag;
+        }
+
+        static Signed of(int[] mag) {
+            return new Signed(1, mag);
+        }
+
+        Signed add(Signed other) {
+            if (other.sign == 0) {
+                return this;
+            }
+            if (sign == 0) {
+                return other;
+            }
+            if (sign == other.sign) {
+                return new Signed(sign, Limbs.add(mag, other.mag));
+            }
+            int cmp = compare(mag, other.mag);
+            if (cmp >= 0) {
+                return new Signed(sign, Limbs.subtract(mag, other.mag));
+            }
+            return new Signed(other.sign, Limbs.subtract(other.mag, mag));
+        }
+
+        Signed subtract(Signed other) {
+            return add(new Signed(-other.sign, other.mag));
+        }
+
+        Signed multiply(Signed other) {
+            return new Signed(sign * other.sign, Limbs.multiply(mag, other.mag));
+        }
+
+        Signed shiftLeft(int bits) {
+            return new Signed(sign, Limbs.shiftLeft(mag, bits));
+        }
+
+        /**
+         * Точне ділення на 2^bits (молодші біти мають бути нульовими)
+         */
+        Signed shiftRight(int bits) {
+            return new Signed(sign, Limbs.shiftRight(mag, bits));
+        }
+
+        /**
+         * Точне ділення на 3
+         */
+        Signed divideBy3() {
+            int[] quotient = new int[mag.length];
+            long remainder = 0;
+            for (int i = mag.length - 1; i >= 0; i--) {
+                long current = remainder << 32 | (mag[i] & MASK);
+                quotient[i] = (int) (current / 3);
+                remainder = current % 3;
+            }
+            return new Signed(sign, trim(quotient));
+        }
+    }
+
+    /**
+     * Додає value * 2^(32 * offset) до target на місці
+     */
+    static void addShifted(int[] target, int[] value, int offset) {
+        long carry = 0;
+        int i = 0;
+        for (; i < value.length; i++) {
+            long sum = (target[i + offset] & MASK) + (value[i] & MASK) + carry;
+            target[i + offset] = (int) sum;
+            carry = sum >>> 32;
+        }
+        for (int j = i + offset; carry != 0; j++) {
+            long sum = (target[j] & MASK) + carry;
+            target[j] = (int) sum;
+            carry = sum >>> 32;
+        }
+    }
+
+    /**
+     * Множення "в стовпчик"
+     */
+    static int[] multiplySchoolbook(int[] a, int[] b) {
+        if (a.length == 0 || b.length == 0) {
+            return EMPTY;
+        }
+
+        int[] result = new int[a.length + b.length];
+        for (int i = 0; i < a.length; i++) {
+            long carry = 0;
+            long ai = a[i] & MASK;
+            for (int j = 0; j < b.length; j++) {
+                long product = ai * (b[j] & MASK) + (result[i + j] & MASK) + carry;
+                result[i + j] = (int) product;
+                carry = product >>> 32;
+            }
+            result[i + b.length] = (int) carry;
+        }
+        return trim(result);
+    }
+
+    /**
+     * Повертає a * 2^bits
+     */
+    static int[] shiftLeft(int[] a, long bits) {
+        if (a.length == 0 || bits == 0) {
+            return a;
+        }
+
+        int limbs = (int) (bits >>> 5);
+        int shift = (int) (bits & 31);
+        int[] result = new int[a.length + limbs + 1];
+        if (shift == 0) {
+            System.arraycopy(a, 0, result, limbs, a.length);
+        } else {
+            for (int i = 0; i < a.length; i++) {
+                result[i + limbs] |= a[i] << shift;
+                result[i + limbs + 1] = a[i] >>> (32 - shift);
+            }
+        }
+        return trim(result);
+    }
+
+    /**
+     * Повертає a / 2^bits (молодші біти відкидаються)
+     */
+    static int[] shiftRight(int[] a, long bits) {
+        int limbs = (int) Math.min(bits >>> 5, a.length);
+        int shift = (int) (bits & 31);
+        int[] result = new int[a.length - limbs];
+        for (int i = 0; i < result.length; i++) {
+            int high = i + limbs + 1 < a.length ? a[i + limbs + 1] : 0;
+            result[i] = shift == 0 ? a[i + limbs] : a[i + limbs] >>> shift | high << (32 - shift);
+        }
+        return trim(result);
+    }
+
+    /**
+     * Повертає молодші n слів числа (a mod 2^(32n))
+     */
+    static int[] low(int[] a, int n) {
+        return trim(a, Math.min(n, a.length));
+    }
+
+    /**
+     * Повертає a / 2^(32n)
+     */
+    static int[] high(int[] a, int n) {
+        return n >= a.length ? EMPTY : Arrays.copyOfRange(a, n, a.length);
+    }
+
+    /**
+     * Повертає hi * 2^(32n) + lo, де lo має не більше n слів
+     */
+    static int[] join(int[] hi, int n, int[] lo) {
+        if (hi.length == 0) {
+            return lo;
+        }
+        int[] result = new int[hi.length + n];
+        System.arraycopy(lo, 0, result, 0, lo.length);
+        System.arraycopy(hi, 0, result, n, hi.length);
+        return result;
+    }
+
+    /**
+     * Множить перші len слів масиву на mul та додає add (на місці).
+     * Масив має містити вільне місце для переносу.
+     *
+     * @return нова кількість значущих слів
+     */
+    static int mulAdd(int[] a, int len, int mul, int add) {
+        long m = mul & MASK;
+        long carry = add & MASK;
+        for (int i = 0; i < len; i++) {
+            long product = (a[i] & MASK) * m + carry;
+            a[i] = (int) product;
+            carry = product >>> 32;
+        }
+        if (carry != 0) {
+            a[len++] = (int) carry;
+        }
+        return len;
+    }
+}
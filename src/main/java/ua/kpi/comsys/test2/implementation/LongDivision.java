@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2014, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Arrays;
+
+/**
+ * Цілочисельне ділення чисел у вигляді масивів слів {@link Limbs}.
+ * Для невеликих дільників використовується ділення "в стовпчик"
+ * (алгоритм D Кнута), для великих - рекурсивний алгоритм
+ * Burnikel-Ziegler, який зводить ділення до множення блоків.
+ *
+ * @author Коваль Богдан Андрійович
+ */
+final class LongDivision {
+
+    // мінімальний розмір дільника (у словах) для рекурсивного ділення
+    static final int BURNIKEL_ZIEGLER_THRESHOLD = 80;
+    // мінімальна різниця розмірів діленого та дільника для рекурсивного ділення
+    static final int BURNIKEL_ZIEGLER_OFFSET = 40;
+
+    private static final long MASK = Limbs.MASK;
+
+    private LongDivision() {
+    }
+
+    /**
+     * Повертає частку a / b
+     */
+    static int[] divide(int[] a, int[] b) {
+        return divideAndRemainder(a, b)[0];
+    }
+
+    /**
+     * Повертає масив {частка, остача} від ділення a на b
+     */
+    static int[][] divideAndRemainder(int[] a, int[] b) {
+        if (b.length == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (Limbs.compare(a, b) < 0) {
+            return new int[][] {Limbs.EMPTY, a};
+        }
+        if (b.length == 1) {
+            return divideByWord(a, b[0]);
+        }
+        if (b.length < BURNIKEL_ZIEGLER_THRESHOLD || a.length - b.length < BURNIKEL_ZIEGLER_OFFSET) {
+            return divideKnuth(a, b);
+        }
+        return divideBurnikelZiegler(a, b);
+    }
+
+    /**
+     * Ділення на одне слово
+     */
+    private static int[][] divideByWord(int[] a, int divisor) {
+        long d = divisor & MASK;
+        int[] quotient = new int[a.length];
+        long remainder = 0;
+        for (int i = a.length - 1; i >= 0; i--) {
+            long current = remainder << 32 | (a[i] & MASK);
+            quotient[i] = (int) Long.divideUnsigned(current, d);
+            remainder = Long.remainderUnsigned(current, d);
+        }
+        return new int[][] {Limbs.trim(quotient), Limbs.valueOf(remainder)};
+    }
+
+    /**
+     * Ділення "в стовпчик" (алгоритм D Кнута), дільник має щонайменше два слова
+     */
+    static int[][] divideKnuth(int[] a, int[] b) {
+        if (Limbs.compare(a, b) < 0) {
+            return new int[][] {Limbs.EMPTY, a};
+        }
+        if (b.length == 1) {
+            return divideByWord(a, b[0]);
+        }
+
+        int n = b.length;
+        int m = a.length - n;
+
+        // нормалізуємо дільник, щоб старший біт старшого слова був одиничним
+        int shift = Integer.numberOfLeadingZeros(b[n - 1]);
+        int[] v = new int[n];
+        int[] u = new int[a.length + 1];
+        for (int i = n - 1; i > 0; i--) {
+            v[i] = shift == 0 ? b[i] : b[i] << shift | b[i - 1] >>> (32 - shift);
+        }
+        v[0] = b[0] << shift;
+        u[a.length] = shift == 0 ? 0 : a[a.length - 1] >>> (32 - shift);
+        for (int i = a.length - 1; i > 0; i--) {
+            u[i] = shift == 0 ? a[i] : a[i] << shift | a[i - 1] >>> (32 - shift);
+        }
+        u[0] = a[0] << shift;
+
+        long vTop = v[n - 1] & MASK;
+        long vNext = v[n - 2] & MASK;
+        int[] quotient = new int[m + 1];
+
+        for (int j = m; j >= 0; j--) {
+            // оцінюємо чергову цифру частки за двома старшими словами
+            long numerator = (u[j + n] & MASK) << 32 | (u[j + n - 1] & MASK);
+            long qHat = Long.divideUnsigned(numerator, vTop);
+            long rHat = Long.remainderUnsigned(numerator, vTop);
+            while (qHat > MASK
+                    || Long.compareUnsigned(qHat * vNext, rHat << 32 | (u[j + n - 2] & MASK)) > 0) {
+                qHat--;
+                rHat += vTop;
+                if (rHat > MASK) {
+                    break;
+                }
+            }
+
+            // віднімаємо qHat * v від поточного фрагмента діленого
+            long carry = 0;
+            long borrow = 0;
+            for (int i = 0; i < n; i++) {
+                long product = qHat * (v[i] & MASK) + carry;
+                carry = product >>> 32;
+                long diff = (u[i + j] & MASK) - (product & MASK) - borrow;
+                u[i + j] = (int) diff;
+                borrow = diff < 0 ? 1 : 0;
+            }
+            long diff = (u[j + n] & MASK) - carry - borrow;
+            u[j + n] = (int) diff;
+
+            // оцінка виявилась завеликою на одиницю - додаємо дільник назад
+            if (diff < 0) {
+                qHat--;
+                long sum = 0;
+                for (int i = 0; i < n; i++) {
+                    sum = (u[i + j] & MASK) + (v[i] & MASK) + (sum >>> 32);
+                    u[i + j] = (int) sum;
+                }
+                u[j + n] += (int) (sum >>> 32);
+            }
+            quotient[j] = (int) qHat;
+        }
+
+        // денормалізуємо остачу
+        int[] remainder = new int[n];
+        for (int i = 0; i < n; i++) {
+            remainder[i] = shift == 0 ? u[i] : u[i] >>> shift | u[i + 1] << (32 - shift);
+        }
+        return new int[][] {Limbs.trim(quotient), Limbs.trim(remainder)};
+    }
+
+    /**
+     * Рекурсивне ділення Burnikel-Ziegler: ділене розбивається на блоки
+     * розміру дільника, кожен крок ділить 2n-блоковий фрагмент на n-блоковий дільник
+     */
+    static int[][] divideBurnikelZiegler(int[] a, int[] b) {
+        int s = b.length;
+
+        // розмір блоку n = j * m, де m - степінь двійки, щоб рекурсія ділила блоки навпіл
+        int m = 1 << (32 - Integer.numberOfLeadingZeros(s / BURNIKEL_ZIEGLER_THRESHOLD));
+        int j = (s + m - 1) / m;
+        int n = j * m;
+        long n32 = 32L * n;
+
+        // нормалізуємо дільник до n повних слів зі старшим одиничним бітом
+        long sigma = Math.max(0, n32 - Limbs.bitLength(b));
+        int[] bShifted = Limbs.shiftLeft(b, sigma);
+        int[] aShifted = Limbs.shiftLeft(a, sigma);
+
+        // кількість блоків діленого: старший біт старшого блоку має бути нульовим
+        int t = (int) Math.max(2, (Limbs.bitLength(aShifted) + n32) / n32);
+
+        int[] quotient = new int[t * n];
+        int[] z = Limbs.high(aShifted, (t - 2) * n);
+        for (int i = t - 2; i >= 0; i--) {
+            int[][] qr = divide2n1n(z, bShifted, n);
+            System.arraycopy(qr[0], 0, quotient, i * n, qr[0].length);
+            if (i > 0) {
+                int[] nextBlock = Limbs.low(Limbs.high(aShifted, (i - 1) * n), n);
+                z = Limbs.join(qr[1], n, nextBlock);
+            } else {
+                z = qr[1];
+            }
+        }
+
+        return new int[][] {Limbs.trim(quotient), Limbs.shiftRight(z, sigma)};
+    }
+
+    /**
+     * Ділить a (менше за b * 2^(32n)) на дільник b з n слів
+     */
+    private static int[][] divide2n1n(int[] a, int[] b, int n) {
+        if (n % 2 != 0 || n < BURNIKEL_ZIEGLER_THRESHOLD) {
+            return divideKnuth(a, b);
+        }
+
+        int half = n / 2;
+        int[][] qr1 = divide3n2n(Limbs.high(a, half), b, half);
+        int[] a4 = Limbs.low(a, half);
+        int[][] qr2 = divide3n2n(Limbs.join(qr1[1], half, a4), b, half);
+
+        return new int[][] {Limbs.join(qr1[0], half, qr2[0]), qr2[1]};
+    }
+
+    /**
+     * Ділить триблоковий a на двоблоковий b (блоки по half слів)
+     */
+    private static int[][] divide3n2n(int[] a, int[] b, int half) {
+        int[] a12 = Limbs.high(a, half);
+        int[] a3 = Limbs.low(a, half);
+        int[] b1 = Limbs.high(b, half);
+        int[] b2 = Limbs.low(b, half);
+
+        int[] q;
+        int[] r1;
+        if (Limbs.compare(Limbs.high(a12, half), b1) < 0) {
+            int[][] qr = divide2n1n(a12, b1, half);
+            q = qr[0];
+            r1 = qr[1];
+        } else {
+            // частка не менша за 2^(32*half) - 1: беремо максимально можливу цифру
+            q = new int[half];
+            Arrays.fill(q, -1);
+            r1 = Limbs.subtract(Limbs.add(a12, b1), Limbs.join(b1, half, Limbs.EMPTY));
+        }
+
+        // r = r1 * 2^(32*half) + a3 - q * b2; поки r < 0, зменшуємо частку
+        int[] d = Limbs.multiply(q, b2);
+        int[] r = Limbs.join(r1, half, a3);
+        while (Limbs.compare(r, d) < 0) {
+            r = Limbs.add(r, b);
+            q = Limbs.subtract(q, Limbs.valueOf(1));
+        }
+        return new int[][] {q, Limbs.subtract(r, d)};
+    }
+}
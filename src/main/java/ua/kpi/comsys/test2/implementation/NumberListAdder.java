@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2014, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+import ua.kpi.comsys.test2.NumberList;
+
+/**
+ * Накопичувач суми довгих чисел для багатьох потоків, аналог
+ * {@link java.util.concurrent.atomic.LongAdder}. Сума розподілена між
+ * комірками; кожен потік додає до "своєї" комірки під її власним
+ * блокуванням. Коли комірка зайнята іншим потоком, потік переходить до
+ * іншої, а кількість комірок подвоюється (до кількості процесорів).
+ *
+ * Частинні суми зберігаються у вигляді масивів слів {@link Limbs} і
+ * змінюються на місці, тому increment() у середньому виконується за O(1),
+ * а add(arg) - за час, пропорційний довжині аргументу. Загальна сума
+ * збирається лише при виклику {@link #sum()}; під час одночасних змін
+ * вона не є атомарним знімком, як і у LongAdder.
+ *
+ * @author Коваль Богдан Андрійович
+ */
+public class NumberListAdder {
+
+    // найбільша кількість комірок: степінь двійки, не менший за кількість процесорів
+    private static final int MAX_CELLS = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1);
+
+    // номер комірки потоку (ненульове псевдовипадкове число)
+    private static final ThreadLocal<int[]> PROBE =
+            ThreadLocal.withInitial(() -> new int[] {ThreadLocalRandom.current().nextInt() | 1});
+
+    private volatile Cell[] cells = {new Cell()};
+
+    /**
+     * Комірка з частинною сумою
+     */
+    private static final class Cell {
+        final ReentrantLock lock = new ReentrantLock();
+        int[] mag = new int[4]; // слова частинної суми, із запасом для переносу
+        int length; // кількість значущих слів
+
+        /**
+         * Додає значення (під блокуванням комірки)
+         */
+        void add(int[] value) {
+            int needed = Math.max(length, value.length) + 1;
+            if (needed > mag.length) {
+                mag = Arrays.copyOf(mag, Math.max(needed, 2 * mag.length));
+            }
+            Limbs.addShifted(mag, value, 0);
+            length = needed;
+            while (length > 0 && mag[length - 1] == 0) {
+                length--;
+            }
+        }
+
+        /**
+         * Додає одиницю (під блокуванням комірки); перенос у середньому
+         * зачіпає менше двох слів
+         */
+        void increment() {
+            if (length == mag.length) {
+                mag = Arrays.copyOf(mag, 2 * mag.length);
+            }
+            int i = 0;
+            while (++mag[i] == 0) {
+                i++;
+            }
+            if (i == length) {
+                length++;
+            }
+        }
+    }
+
+    /**
+     * Adds the value of the list to the sum.
+     *
+     * @param arg - number to add.
+     */
+    public void add(NumberList arg) {
+        if (arg == null) {
+            throw new NullPointerException("Argument is null");
+        }
+
+        // переведення у слова виконується поза блокуванням
+        int[] value = NumberListImpl.limbsOf(arg);
+        if (value.length == 0) {
+            return;
+        }
+        Cell cell = lockCell();
+        try {
+            cell.add(value);
+        } finally {
+            cell.lock.unlock();
+        }
+    }
+
+    /**
+     * Adds one to the sum.
+     */
+    public void increment() {
+        Cell cell = lockCell();
+        try {
+            cell.increment();
+        } finally {
+            cell.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current sum as a binary <tt>NumberListImpl</tt>.
+     * Concurrent updates may or may not be included.
+     *
+     * @return sum of all added values.
+     */
+    public NumberListImpl sum() {
+        int[] total = Limbs.EMPTY;
+        for (Cell cell : cells) {
+            cell.lock.lock();
+            try {
+                total = Limbs.add(total, Limbs.trim(cell.mag, cell.length));
+            } finally {
+                cell.lock.unlock();
+            }
+        }
+        return NumberListImpl.fromLimbs(total);
+    }
+
+    /**
+     * Resets the sum to zero.
+     */
+    public void reset() {
+        for (Cell cell : cells) {
+            cell.lock.lock();
+            try {
+                Arrays.fill(cell.mag, 0);
+                cell.length = 0;
+            } finally {
+                cell.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return sum().toDecimalString();
+    }
+
+    /**
+     * Захоплює блокування комірки поточного потоку. Якщо комірка зайнята,
+     * потік вибирає іншу, а за потреби кількість комірок збільшується.
+     */
+    private Cell lockCell() {
+        int[] probe = PROBE.get();
+        for (int attempt = 0; ; attempt++) {
+            Cell[] current = cells;
+            Cell cell = current[probe[0] & (current.length - 1)];
+            if (cell.lock.tryLock()) {
+                return cell;
+            }
+            if (attempt > 0 && current.length == MAX_CELLS) {
+                cell.lock.lock(); // комірок достатньо - чекаємо на свою
+                return cell;
+            }
+            if (attempt > 0) {
+                grow(current);
+            }
+
+            // xorshift: наступний номер комірки для цього потоку
+            int h = probe[0];
+            h ^= h << 13;
+            h ^= h >>> 17;
+            h ^= h << 5;
+            probe[0] = h;
+        }
+    }
+
+    /**
+     * Подвоює кількість комірок, якщо їх не змінив інший потік
+     */
+    private synchronized void grow(Cell[] current) {
+        if (cells == current && current.length < MAX_CELLS) {
+            Cell[] grown = Arrays.copyOf(current, current.length * 2);
+            for (int i = current.length; i < grown.length; i++) {
+                grown[i] = new Cell();
+            }
+            cells = grown;
+        }
+    }
+}
@@ -7,24 +7,48 @@
 
 package ua.kpi.comsys.test2.implementation;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.math.BigInteger;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
 
 import ua.kpi.comsys.test2.NumberList;
 
 /**
- * Реалізація кільцевого однонаправленого списку для зберігання чисел у двійковій системі.
- * Кожен елемент списку зберігає одну двійкову цифру (0 або 1).
+ * Реалізація кільцевого списку для зберігання чисел у системах числення
+ * 2, 3, 8, 10 та 16. Елемент списку - одна цифра, старша цифра має індекс 0.
+ *
+ * Кільце складається з вузлів-блоків: кожен вузол містить масив 64-бітних слів,
+ * у які щільно упаковано до {@link #chunkCapacity} цифр (1 біт на цифру для
+ * основи 2, 2 біти для основи 3, 3 біти для основи 8, 4 біти для основ 10 та 16).
+ * Кожен список має власну систему числення: за замовчуванням двійкову, інші
+ * задаються конструктором {@link #NumberListImpl(int)} або виникають
+ * при {@link #changeScale(int)}.
+ *
+ * Вузли зв'язані в однонаправлене кільце з посиланням на останній вузол;
+ * {@link #setDoublyLinked(boolean)} додає зворотні посилання для обходу з кінця.
+ * Звільнені вузли можуть повторно використовуватись через пул
+ * ({@link #setNodePoolLimit(int)}).
  *
  * @author Коваль Богдан Андрійович
  * Група: ІС-31
@@ -36,35 +60,119 @@ import ua.kpi.comsys.test2.NumberList;
  * - С7 = 10 % 7 = 3: Ціла частина від ділення
  * - Додаткова система: (0+1) % 5 = 1: Трійкова система (основа 3)
  */
-public class NumberListImpl implements NumberList {
+public class NumberListImpl implements NumberList, Comparable<NumberList> {
 
     private static final int BASE = 2; // двійкова система
     private static final int ADDITIONAL_BASE = 3; // трійкова система
 
+    private static final char[] DIGIT_CHARS = "0123456789ABCDEF".toCharArray();
+
+    private static final int CHUNK_WORDS = 8; // кількість 64-бітних слів у вузлі
+    // оцінка розміру вузла на 64-бітній JVM зі стиснутими посиланнями:
+    // об'єкт Node (32 байти) + масив long[CHUNK_WORDS] (16 байт заголовка + дані)
+    private static final int NODE_BYTES = 32 + 16 + 8 * CHUNK_WORDS;
+
+    private static final long MAP_WINDOW = 1L << 26; // розмір вікна відображення файлу (64 МіБ)
+    private static final int WRITE_BLOCK = 1 << 16; // розмір блоку десяткових цифр при записі
+
+    // двійковий знімок: заголовок (сигнатура, версія, основа, бітів на цифру,
+    // кількість цифр) та упаковані цифри, 64-бітні слова little-endian
+    private static final int SNAPSHOT_MAGIC = 0x54534C4E; // "NLST"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER = 24;
+
     private Node head; // голова списку
+    private Node tail; // останній вузол кільця (tail.next == head)
     private int size; // розмір списку
     private int currentBase; // поточна система числення цього списку
+    private int modCount; // лічильник структурних змін (для ітераторів та підсписків)
+    private int setCount; // лічильник замін цифр (set не є структурною зміною)
+
+    private Cache cache = Cache.EMPTY; // кешовані значення для поточного стану списку
+
+    private int bitsPerDigit; // кількість бітів на одну цифру
+    private int digitsPerWord; // кількість цифр в одному 64-бітному слові
+    private int chunkCapacity; // максимальна кількість цифр у вузлі
+    private long digitMask; // маска однієї цифри
+    private long wordReciprocal; // 2^32 / digitsPerWord + 1: ділення індексу множенням
+
+    private boolean doublyLinked; // вузли пов'язані в обидва боки (prev підтримується)
+
+    private Node freeNodes; // вилучені з кільця вузли для повторного використання (зв'язані через next)
+    private int freeCount; // кількість вузлів у freeNodes
+    private int nodePoolLimit; // найбільша кількість вузлів у freeNodes (0 - пул вимкнено)
 
     /**
-     * Клас для вузла списку
+     * Незмінний набір кешованих значень для стану списку (modCount, setCount).
+     * Кеш замінюється цілим об'єктом, тому читачі з різних потоків (під
+     * спільним блокуванням) бачать або старий, або новий набір повністю.
      */
-    private class Node {
-        Byte data; // дані вузла
-        Node next; // посилання на наступний елемент
-
-        Node(Byte data) {
-            this.data = data;
-            this.next = null;
+    private static final class Cache {
+        static final Cache EMPTY = new Cache(-1, false, 0, null, null);
+
+        final long stamp;
+        final boolean hashValid;
+        final int hash;
+        final String decimal;
+        final NumberListImpl ternary;
+
+        Cache(long stamp, boolean hashValid, int hash, String decimal, NumberListImpl ternary) {
+            this.stamp = stamp;
+            this.hashValid = hashValid;
+            this.hash = hash;
+            this.decimal = decimal;
+            this.ternary = ternary;
         }
     }
 
+    /**
+     * Клас для вузла списку - блок упакованих цифр
+     */
+    private static class Node {
+        final long[] words = new long[CHUNK_WORDS]; // упаковані цифри вузла
+        int count; // кількість цифр у вузлі
+        Node next; // посилання на наступний елемент
+        Node prev; // посилання на попередній елемент (лише у двонаправленому кільці)
+    }
+
     /**
      * Default constructor. Returns empty <tt>NumberListImpl</tt>
      */
     public NumberListImpl() {
         this.head = null;
+        this.tail = null;
         this.size = 0;
-        this.currentBase = BASE; // за замовчуванням використовуємо основну систему (двійкову)
+        setBase(BASE); // за замовчуванням використовуємо основну систему (двійкову)
+    }
+
+
+    /**
+     * Constructs empty <tt>NumberListImpl</tt> for number in specified
+     * scale of notation.
+     *
+     * @param radix - scale of notation of the list: 2, 3, 8, 10 or 16.
+     * @throws IllegalArgumentException if radix is not supported.
+     */
+    public NumberListImpl(int radix) {
+        this();
+        setBase(checkRadix(radix));
+    }
+
+    /**
+     * Перевіряє, що система числення radix підтримується списком
+     */
+    private static int checkRadix(int radix) {
+        if (!isSupportedRadix(radix)) {
+            throw new IllegalArgumentException("Unsupported base " + radix);
+        }
+        return radix;
+    }
+
+    /**
+     * Системи числення з завдання: 2, 3, 8, 10 та 16
+     */
+    static boolean isSupportedRadix(int radix) {
+        return radix == 2 || radix == 3 || radix == 8 || radix == 10 || radix == 16;
     }
 
 
@@ -76,15 +184,55 @@ public class NumberListImpl implements NumberList {
      */
     public NumberListImpl(File file) {
         this();
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
-            String line = reader.readLine();
-            if (line != null && !line.trim().isEmpty()) {
-                // конвертуємо десяткове число у двійкове
-                initializeFromDecimalString(line.trim());
-            }
-        } catch (Exception e) {
+        try {
+            // конвертуємо десяткове число у двійкове
+            loadDecimal(file);
+        } catch (IOException | NumberFormatException e) {
             // якщо помилка - залишаємо список порожнім
-            // (наприклад, файл не знайдено або неправильний формат)
+            // (наприклад, файл не знайдено або неправильний формат);
+            // опис помилки можна отримати через load(File)
+            clear();
+        }
+    }
+
+
+    /**
+     * Завантажує <b>десяткове</b> число з файлу. На відміну від конструктора
+     * <tt>NumberListImpl(File)</tt>, повідомляє про помилки.<p>
+     *
+     * Файл відображається у пам'ять вікнами по 64 МіБ, а цифри розбираються
+     * блоками фіксованого розміру безпосередньо у двійкове значення, тому
+     * окрім самого числа додаткова пам'ять не залежить від розміру файлу.
+     * Порожній файл відповідає порожньому списку.
+     *
+     * @param file - file where number is stored.
+     * @return loaded <tt>NumberListImpl</tt>.
+     * @throws IOException if the file can not be read.
+     * @throws NumberFormatException if the file does not contain non-negative decimal number.
+     */
+    public static NumberListImpl load(File file) throws IOException {
+        NumberListImpl list = new NumberListImpl();
+        list.loadDecimal(file);
+        return list;
+    }
+
+    /**
+     * Допоміжний метод для розбору десяткового числа з відображеного у пам'ять файлу
+     */
+    private void loadDecimal(File file) throws IOException {
+        DecimalParser parser = new DecimalParser();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long length = channel.size();
+            for (long position = 0; position < length; position += MAP_WINDOW) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position, Math.min(MAP_WINDOW, length - position));
+                while (window.hasRemaining()) {
+                    parser.accept(window.get());
+                }
+            }
+            appendBinary(parser.finish());
+        } catch (NumberFormatException e) {
+            throw new NumberFormatException(file + ": " + e.getMessage());
         }
     }
 
@@ -108,20 +256,84 @@ public class NumberListImpl implements NumberList {
      */
     private void initializeFromDecimalString(String decimal) {
         try {
-            BigInteger num = new BigInteger(decimal);
-            if (num.signum() <= 0) {
-                return; // якщо число 0 або від'ємне, список залишається порожнім
-            }
-
-            // переводимо число в двійкову систему
-            String binary = num.toString(BASE);
-            // додаємо кожну цифру до списку
-            for (int i = 0; i < binary.length(); i++) {
-                add((byte) (binary.charAt(i) - '0'));
+            DecimalParser parser = new DecimalParser();
+            for (int i = 0; i < decimal.length(); i++) {
+                parser.accept(decimal.charAt(i));
             }
+            // для нуля список залишається порожнім
+            appendBinary(parser.finish());
         } catch (NumberFormatException e) {
-            // якщо рядок не є валідним числом - залишаємо список порожнім
+            // якщо рядок не є валідним числом або число від'ємне - залишаємо список порожнім
+        }
+    }
+
+    /**
+     * Поточна система числення списку
+     */
+    int radix() {
+        return currentBase;
+    }
+
+    /**
+     * Повна копія списку: масиви слів вузлів копіюються без розпакування цифр
+     */
+    NumberListImpl copy() {
+        NumberListImpl copy = new NumberListImpl();
+        copy.setBase(currentBase);
+        copy.doublyLinked = doublyLinked;
+        if (isEmpty()) {
+            return copy;
         }
+
+        Node current = head;
+        do {
+            copy.appendNode();
+            System.arraycopy(current.words, 0, copy.tail.words, 0, CHUNK_WORDS);
+            copy.tail.count = current.count;
+            current = current.next;
+        } while (current != head);
+        copy.size = size;
+        return copy;
+    }
+
+    /**
+     * Повертає кеш для поточного стану списку (порожній, якщо список
+     * змінився після обчислення кешованих значень)
+     */
+    private Cache validCache() {
+        long stamp = cacheStamp();
+        Cache current = cache;
+        return current.stamp == stamp ? current : new Cache(stamp, false, 0, null, null);
+    }
+
+    /**
+     * Стан списку, для якого дійсні кешовані значення
+     */
+    private long cacheStamp() {
+        return (long) modCount << 32 | setCount & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Повертає кешований десятковий запис без обчислень, або null,
+     * якщо його ще не обчислено для поточного стану списку
+     */
+    String cachedDecimal() {
+        Cache current = cache;
+        return current.stamp == cacheStamp() ? current.decimal : null;
+    }
+
+    /**
+     * Встановлює систему числення та параметри упаковки цифр.
+     * Викликається лише для порожнього списку.
+     */
+    private void setBase(int base) {
+        this.currentBase = base;
+        this.bitsPerDigit = 32 - Integer.numberOfLeadingZeros(base - 1);
+        this.digitsPerWord = Long.SIZE / bitsPerDigit;
+        this.chunkCapacity = CHUNK_WORDS * digitsPerWord;
+        this.digitMask = (1L << bitsPerDigit) - 1;
+        // для індексів у межах вузла (менше 2^16) множення дає точну частку
+        this.wordReciprocal = (1L << 32) / digitsPerWord + 1;
     }
 
 
@@ -132,8 +344,9 @@ public class NumberListImpl implements NumberList {
      * @param file - file where number has to be stored.
      */
     public void saveList(File file) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
-            writer.write(toDecimalString());
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeDecimal(channel);
         } catch (IOException e) {
             throw new RuntimeException("Error writing to file", e);
         }
@@ -141,656 +354,2560 @@ public class NumberListImpl implements NumberList {
 
 
     /**
-     * Returns student's record book number, which has 4 decimal digits.
+     * Паралельний варіант {@link #saveList(File)}: десяткові цифри
+     * обчислюються у пулі pool (див. {@link #toDecimalString(ForkJoinPool, int)})
+     * та записуються у файл. Вміст файлу збігається з послідовним записом.
      *
-     * @return student's record book number.
+     * @param file - file where number has to be stored.
+     * @param pool - pool which performs the conversion.
+     * @param threshold - number of decimal digits below which parts are converted sequentially.
      */
-    public static int getRecordBookNumber() {
-        return 10;
+    public void saveList(File file, ForkJoinPool pool, int threshold) {
+        checkParallelArguments(pool, threshold);
+        byte[] decimal = renderDecimal(pool, threshold);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(decimal);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing to file", e);
+        }
     }
 
 
     /**
-     * Returns new <tt>NumberListImpl</tt> which represents the same number
-     * in other scale of notation, defined by personal test assignment.<p>
-     *
-     * Does not impact the original list.
+     * Записує число у <b>десятковій</b> системі числення в канал.
+     * Цифри видаються блоками по мірі переведення, тож повний рядок
+     * ніколи не будується. Канал не закривається.
      *
-     * @return <tt>NumberListImpl</tt> in other scale of notation.
+     * @param channel - channel where number has to be written.
+     * @throws IOException if the channel fails.
      */
-    public NumberListImpl changeScale() {
-        if (isEmpty()) {
-            return new NumberListImpl();
-        }
-
-        // спочатку конвертуємо в десяткову систему
-        String decimal = toDecimalString();
-        BigInteger num = new BigInteger(decimal);
-        // потім переводимо в трійкову систему
-        String ternary = num.toString(ADDITIONAL_BASE);
+    public void writeDecimal(WritableByteChannel channel) throws IOException {
+        writeBlocks((block, length) -> {
+            ByteBuffer buffer = ByteBuffer.wrap(block, 0, length);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        });
+    }
 
-        // створюємо новий список для трійкової системи
-        NumberListImpl result = new NumberListImpl();
-        result.currentBase = ADDITIONAL_BASE; // встановлюємо трійкову систему для нового списку
-        for (int i = 0; i < ternary.length(); i++) {
-            result.add((byte) (ternary.charAt(i) - '0'));
-        }
 
-        return result;
+    /**
+     * Записує число у <b>десятковій</b> системі числення в потік
+     * (ASCII, блоками). Потік не закривається.
+     *
+     * @param out - stream where number has to be written.
+     * @throws IOException if the stream fails.
+     */
+    public void writeDecimal(OutputStream out) throws IOException {
+        writeBlocks((block, length) -> out.write(block, 0, length));
     }
 
 
     /**
-     * Returns new <tt>NumberListImpl</tt> which represents the result of
-     * additional operation, defined by personal test assignment.<p>
+     * Дописує число у <b>десятковій</b> системі числення до out (блоками).
      *
-     * Performs integer division (this / arg).
-     *
-     * Does not impact the original list.
-     *
-     * @param arg - second argument of additional operation (divisor)
-     *
-     * @return result of additional operation (quotient).
+     * @param out - destination of decimal digits.
+     * @throws IOException if the destination fails.
      */
-    public NumberListImpl additionalOperation(NumberList arg) {
-        // перевіряємо чи не ділимо на нуль
-        if (arg == null || arg.isEmpty()) {
-            throw new ArithmeticException("Division by zero");
-        }
-
-        NumberListImpl dividend = this; // ділене
-        NumberListImpl divisor = (NumberListImpl) arg; // дільник
+    public void writeDecimal(Appendable out) throws IOException {
+        writeBlocks((block, length) -> out.append(new String(block, 0, length, StandardCharsets.US_ASCII)));
+    }
 
-        // переводимо обидва числа в десяткову систему
-        String dividendDecimal = dividend.toDecimalString();
-        String divisorDecimal = divisor.toDecimalString();
+    /**
+     * Приймач блоків десяткових цифр у кодуванні ASCII
+     */
+    private interface BlockSink {
+        void write(byte[] block, int length) throws IOException;
+    }
 
-        BigInteger dividendNum = new BigInteger(dividendDecimal);
-        BigInteger divisorNum = new BigInteger(divisorDecimal);
+    /**
+     * Буфер цифр, що передає заповнені блоки у BlockSink
+     */
+    private static final class DecimalBlocks implements IntConsumer {
+        final byte[] block = new byte[WRITE_BLOCK];
+        final BlockSink sink;
+        int length;
 
-        if (divisorNum.signum() == 0) {
-            throw new ArithmeticException("Division by zero");
+        DecimalBlocks(BlockSink sink) {
+            this.sink = sink;
         }
 
-        // виконуємо ділення та повертаємо результат
-        BigInteger quotient = dividendNum.divide(divisorNum);
+        @Override
+        public void accept(int digit) {
+            block[length++] = (byte) ('0' + digit);
+            if (length == block.length) {
+                flush();
+            }
+        }
 
-        return new NumberListImpl(quotient.toString());
+        void flush() {
+            try {
+                sink.write(block, length);
+            } catch (IOException e) {
+                // RadixConversion приймає IntConsumer, тож передаємо помилку назовні без перевірки
+                throw new UncheckedIOException(e);
+            }
+            length = 0;
+        }
     }
 
-
     /**
-     * Returns string representation of number, stored in the list
-     * in <b>decimal</b> scale of notation.
-     *
-     * @return string representation in <b>decimal</b> scale.
+     * Переводить число в десяткову систему та віддає цифри блоками
      */
-    public String toDecimalString() {
-        if (isEmpty()) {
-            return "0";
+    private void writeBlocks(BlockSink sink) throws IOException {
+        DecimalBlocks blocks = new DecimalBlocks(sink);
+        try {
+            if (currentBase == 10) {
+                // десятковий список: цифри віддаються як є, без старших нулів
+                DigitCursor digits = significantDigits();
+                if (digits.remaining == 0) {
+                    blocks.accept(0);
+                }
+                while (digits.remaining > 0) {
+                    blocks.accept(digits.next());
+                }
+            } else {
+                int[] mag = toLimbs();
+                if (mag.length == 0) {
+                    blocks.accept(0);
+                } else {
+                    RadixConversion.toDigits(mag, 10, blocks);
+                }
+            }
+            if (blocks.length > 0) {
+                blocks.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-
-        // збираємо всі цифри в рядок
-        StringBuilder digits = new StringBuilder();
-        Node current = head;
-        do {
-            digits.append(current.data);
-            current = current.next;
-        } while (current != head);
-
-        // конвертуємо з поточної системи числення в десяткову
-        BigInteger num = new BigInteger(digits.toString(), currentBase);
-        return num.toString();
     }
 
 
-    @Override
-    public String toString() {
-        if (isEmpty()) {
-            return "";
-        }
+    /**
+     * Зберігає список у двійковий знімок: заголовок та цифри, упаковані так
+     * само, як у вузлах списку. Знімок не потребує переведення систем
+     * числення; файл відображається у пам'ять, і слова вузлів копіюються
+     * у нього напряму.
+     *
+     * @param file - file where snapshot has to be stored.
+     * @throws IOException if the file can not be written.
+     */
+    public void saveSnapshot(File file) throws IOException {
+        long words = ((long) size + digitsPerWord - 1) / digitsPerWord;
+        long length = SNAPSHOT_HEADER + 8 * words;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            MappedByteBuffer window = mapWindow(channel, FileChannel.MapMode.READ_WRITE, position, length);
+            window.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION)
+                    .putInt(currentBase).putInt(bitsPerDigit).putLong(size);
+            if (isEmpty()) {
+                return;
+            }
 
-        // повертаємо число як рядок цифр (без розділювачів)
-        StringBuilder sb = new StringBuilder();
-        Node current = head;
-        do {
-            sb.append(current.data);
-            current = current.next;
-        } while (current != head);
+            // неповні вузли (після вставок і видалень) перепаковуються в суцільну послідовність
+            long pending = 0;
+            int pendingDigits = 0;
+            Node current = head;
+            do {
+                int index = 0;
+                if (pendingDigits == 0) {
+                    // вирівняний вузол: повні слова копіюються без змін
+                    int fullWords = current.count / digitsPerWord;
+                    for (int w = 0; w < fullWords; w++) {
+                        if (!window.hasRemaining()) {
+                            position += window.capacity();
+                            window = mapWindow(channel, FileChannel.MapMode.READ_WRITE, position, length);
+                        }
+                        window.putLong(current.words[w]);
+                    }
+                    index = fullWords * digitsPerWord;
+                }
+                for (; index < current.count; index++) {
+                    pending |= (long) digit(current, index) << pendingDigits * bitsPerDigit;
+                    if (++pendingDigits == digitsPerWord) {
+                        if (!window.hasRemaining()) {
+                            position += window.capacity();
+                            window = mapWindow(channel, FileChannel.MapMode.READ_WRITE, position, length);
+                        }
+                        window.putLong(pending);
+                        pending = 0;
+                        pendingDigits = 0;
+                    }
+                }
+                current = current.next;
+            } while (current != head);
 
-        return sb.toString();
+            if (pendingDigits > 0) {
+                if (!window.hasRemaining()) {
+                    position += window.capacity();
+                    window = mapWindow(channel, FileChannel.MapMode.READ_WRITE, position, length);
+                }
+                window.putLong(pending);
+            }
+        }
     }
 
 
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (!(o instanceof NumberList)) return false;
+    /**
+     * Завантажує список з двійкового знімка, створеного {@link #saveSnapshot(File)}.
+     * Файл відображається у пам'ять, а слова копіюються у вузли без розпаковування.
+     *
+     * @param file - file where snapshot is stored.
+     * @return loaded <tt>NumberListImpl</tt> in the scale of notation of the snapshot.
+     * @throws IOException if the file can not be read or is not a valid snapshot.
+     */
+    public static NumberListImpl loadSnapshot(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < SNAPSHOT_HEADER) {
+                throw new IOException(file + ": not a NumberList snapshot");
+            }
 
-        NumberList other = (NumberList) o;
-        if (this.size() != other.size()) return false;
+            long position = 0;
+            MappedByteBuffer window = mapWindow(channel, FileChannel.MapMode.READ_ONLY, position, length);
+            if (window.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException(file + ": not a NumberList snapshot");
+            }
+            int version = window.getInt();
+            if (version != SNAPSHOT_VERSION) {
+                throw new IOException(file + ": unsupported snapshot version " + version);
+            }
+            int base = window.getInt();
+            int bits = window.getInt();
+            long count = window.getLong();
 
-        // порівнюємо елемент за елементом
-        Iterator<Byte> it1 = this.iterator();
-        Iterator<Byte> it2 = other.iterator();
+            NumberListImpl list = new NumberListImpl();
+            if (!isSupportedRadix(base)) {
+                throw new IOException(file + ": unsupported base " + base);
+            }
+            list.setBase(base);
+            long words = (count + list.digitsPerWord - 1) / list.digitsPerWord;
+            if (bits != list.bitsPerDigit || count < 0 || count > Integer.MAX_VALUE
+                    || length != SNAPSHOT_HEADER + 8 * words) {
+                throw new IOException(file + ": corrupted snapshot header");
+            }
 
-        while (it1.hasNext()) {
-            if (!it1.next().equals(it2.next())) {
-                return false;
+            // заповнюємо вузли повністю, як при послідовному додаванні цифр
+            long remaining = count;
+            while (remaining > 0) {
+                list.appendNode();
+                Node node = list.tail;
+                node.count = (int) Math.min(remaining, list.chunkCapacity);
+                int nodeWords = (node.count + list.digitsPerWord - 1) / list.digitsPerWord;
+                for (int w = 0; w < nodeWords; w++) {
+                    if (!window.hasRemaining()) {
+                        position += window.capacity();
+                        window = mapWindow(channel, FileChannel.MapMode.READ_ONLY, position, length);
+                    }
+                    node.words[w] = window.getLong();
+                }
+                remaining -= node.count;
             }
-        }
+            list.size = (int) count;
 
-        return true;
+            if (!list.isEmpty() && !list.validWords()) {
+                throw new IOException(file + ": corrupted snapshot digits");
+            }
+            return list;
+        }
     }
 
-
-    @Override
-    public int size() {
-        return size;
+    /**
+     * Відображає у пам'ять вікно файлу, що починається з position
+     */
+    private static MappedByteBuffer mapWindow(FileChannel channel, FileChannel.MapMode mode,
+            long position, long length) throws IOException {
+        MappedByteBuffer window = channel.map(mode, position, Math.min(MAP_WINDOW, length - position));
+        window.order(ByteOrder.LITTLE_ENDIAN);
+        return window;
     }
 
+    /**
+     * Перевіряє, що всі цифри менші за основу, а невикористані біти
+     * останнього вузла та старші біти кожного слова нульові (інваріант упакування)
+     */
+    private boolean validWords() {
+        int tailWords = (tail.count + digitsPerWord - 1) / digitsPerWord;
+        int tailDigits = tail.count - (tailWords - 1) * digitsPerWord;
+        if (tailDigits < digitsPerWord && tail.words[tailWords - 1] >>> tailDigits * bitsPerDigit != 0) {
+            return false;
+        }
 
-    @Override
-    public boolean isEmpty() {
-        return size == 0;
-    }
-
+        // у вісімковій системі слово містить 21 цифру (63 біти): старший біт
+        // не належить жодній цифрі, але зсуви при вставці та видаленні його переносять
+        int usedBits = digitsPerWord * bitsPerDigit;
+        if (usedBits < Long.SIZE) {
+            Node current = head;
+            do {
+                int nodeWords = (current.count + digitsPerWord - 1) / digitsPerWord;
+                for (int w = 0; w < nodeWords; w++) {
+                    if (current.words[w] >>> usedBits != 0) {
+                        return false;
+                    }
+                }
+                current = current.next;
+            } while (current != head);
+        }
 
-    @Override
-    public boolean contains(Object o) {
-        if (isEmpty() || !(o instanceof Byte)) {
-            return false;
+        if ((currentBase & currentBase - 1) == 0) {
+            return true; // для степенів двійки будь-яка група бітів - коректна цифра
         }
 
         Node current = head;
         do {
-            if (current.data.equals(o)) {
-                return true;
+            for (int i = 0; i < current.count; i++) {
+                if (digit(current, i) >= currentBase) {
+                    return false;
+                }
             }
             current = current.next;
         } while (current != head);
-
-        return false;
+        return true;
     }
 
 
-    @Override
-    public Iterator<Byte> iterator() {
-        return new Iterator<Byte>() {
-            private Node current = head;
-            private int count = 0; // лічильник пройдених елементів
+    /**
+     * Returns student's record book number, which has 4 decimal digits.
+     *
+     * @return student's record book number.
+     */
+    public static int getRecordBookNumber() {
+        return 10;
+    }
 
-            @Override
-            public boolean hasNext() {
-                return count < size;
-            }
 
-            @Override
-            public Byte next() {
+    /**
+     * Returns new <tt>NumberListImpl</tt> which represents the same number
+     * in other scale of notation, defined by personal test assignment.<p>
+     *
+     * Does not impact the original list.
+     *
+     * @return <tt>NumberListImpl</tt> in other scale of notation.
+     */
+    public NumberListImpl changeScale() {
+        Cache current = validCache();
+        NumberListImpl ternary = current.ternary;
+        if (ternary == null) {
+            // переводимо число в трійкову систему для нового списку
+            ternary = convert(ADDITIONAL_BASE);
+            cache = new Cache(current.stamp, current.hashValid, current.hash, current.decimal, ternary);
+        }
+
+        // кешований результат не віддається назовні, щоб його не змінили
+        return ternary.copy();
+    }
+
+
+    /**
+     * Returns new <tt>NumberListImpl</tt> which represents the same number
+     * in specified scale of notation, without leading zeros.<p>
+     *
+     * Between bases 2, 8 and 16 the bits of digits are regrouped in a
+     * single pass, without arithmetic. Other pairs are converted directly
+     * from binary words of the number.<p>
+     *
+     * Does not impact the original list.
+     *
+     * @param targetBase - scale of notation of the result: 2, 3, 8, 10 or 16.
+     * @return <tt>NumberListImpl</tt> in specified scale of notation.
+     * @throws IllegalArgumentException if targetBase is not supported.
+     */
+    public NumberListImpl changeScale(int targetBase) {
+        return convert(checkRadix(targetBase));
+    }
+
+    /**
+     * Переводить число у систему числення targetBase (новий список)
+     */
+    private NumberListImpl convert(int targetBase) {
+        NumberListImpl result = new NumberListImpl();
+        result.setBase(targetBase);
+        if (targetBase == currentBase || 1 << bitsPerDigit == currentBase
+                && 1 << result.bitsPerDigit == targetBase) {
+            regroup(result);
+        } else if (targetBase == BASE) {
+            result.appendBinary(toLimbs());
+        } else {
+            // переводимо двійкові слова числа безпосередньо в цифри нової системи,
+            // які одразу додаються в кінець нового списку
+            RadixConversion.toDigits(toLimbs(), targetBase, result::appendDigit);
+        }
+        return result;
+    }
+
+    /**
+     * Перегруповує біти цифр у цифри списку result, від старшої до молодшої.
+     * Основи обох списків - степені двійки (або однакові), тож кожна цифра
+     * результату - просто група з result.bitsPerDigit сусідніх бітів числа.
+     */
+    private void regroup(NumberListImpl result) {
+        int targetBits = result.bitsPerDigit;
+        DigitCursor source = significantDigits();
+        long bits = (long) source.remaining * bitsPerDigit;
+        int need = (int) ((bits - 1) % targetBits) + 1; // кількість бітів старшої цифри результату
+        long pending = 0; // біти, ще не віддані в результат (молодші accumulated бітів)
+        int accumulated = 0;
+        while (source.remaining > 0) {
+            pending = pending << bitsPerDigit | source.next();
+            accumulated += bitsPerDigit;
+            while (accumulated >= need) {
+                accumulated -= need;
+                result.appendSignificant((int) (pending >>> accumulated) & (1 << need) - 1);
+                need = targetBits;
+            }
+        }
+    }
+
+
+    /**
+     * Returns new <tt>NumberListImpl</tt> which represents the result of
+     * additional operation, defined by personal test assignment.<p>
+     *
+     * Performs integer division (this / arg).
+     *
+     * Does not impact the original list.
+     *
+     * @param arg - second argument of additional operation (divisor)
+     *
+     * @return result of additional operation (quotient).
+     */
+    public NumberListImpl additionalOperation(NumberList arg) {
+        // перевіряємо чи не ділимо на нуль
+        if (arg == null || arg.isEmpty()) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        // ділимо безпосередньо двійкові слова чисел, операнди лише читаються
+        int[] dividend = toLimbs(); // ділене
+        int[] divisor = limbsOf(arg); // дільник
+        if (divisor.length == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        // виконуємо ділення та повертаємо результат
+        return fromLimbs(LongDivision.divide(dividend, divisor));
+    }
+
+    /**
+     * Повертає новий список - суму цього числа та arg у системі числення
+     * цього списку. Цифри обробляються за один прохід від старшої до
+     * молодшої: остання цифра, яка ще може отримати перенос, та кількість
+     * цифр (основа - 1) після неї відкладаються, доки перенос не стане відомим.
+     * Операнди не змінюються; назва відмінна від add, щоб не перевантажувати
+     * {@link List#add(Object)}, який дописує цифру до списку.
+     *
+     * @param arg - second summand.
+     * @return sum of this number and arg.
+     */
+    public NumberListImpl plus(NumberList arg) {
+        NumberListImpl other = sameBase(arg);
+        DigitCursor a = significantDigits();
+        DigitCursor b = other.significantDigits();
+        int lengthA = a.remaining;
+        int lengthB = b.remaining;
+
+        NumberListImpl result = new NumberListImpl();
+        result.setBase(currentBase);
+        int top = currentBase - 1;
+        int held = 0; // цифра, яка ще може збільшитись на перенос
+        int pending = 0; // кількість цифр top після неї
+        for (int i = Math.max(lengthA, lengthB); i > 0; i--) {
+            int sum = (i <= lengthA ? a.next() : 0) + (i <= lengthB ? b.next() : 0);
+            if (sum == top) {
+                pending++;
+            } else if (sum < top) {
+                result.appendSignificant(held);
+                for (; pending > 0; pending--) {
+                    result.appendDigit(top);
+                }
+                held = sum;
+            } else {
+                // перенос: відкладена цифра збільшується, цифри top стають нулями
+                result.appendSignificant(held + 1);
+                for (; pending > 0; pending--) {
+                    result.appendDigit(0);
+                }
+                held = sum - currentBase;
+            }
+        }
+        result.appendSignificant(held);
+        for (; pending > 0; pending--) {
+            result.appendDigit(top);
+        }
+        return result;
+    }
+
+    /**
+     * Повертає новий список - різницю цього числа та arg у системі числення
+     * цього списку. Як і {@link #plus(NumberList)}, виконується за один прохід
+     * від старшої цифри, відкладаючи нулі до з'ясування позики.
+     * Операнди не змінюються.
+     *
+     * @param arg - subtrahend, not greater than this number.
+     * @return difference of this number and arg.
+     * @throws ArithmeticException if arg is greater than this number.
+     */
+    public NumberListImpl minus(NumberList arg) {
+        NumberListImpl other = sameBase(arg);
+        if (compareTo(other) < 0) {
+            throw new ArithmeticException("Negative result of subtraction");
+        }
+        DigitCursor a = significantDigits();
+        DigitCursor b = other.significantDigits();
+        int lengthA = a.remaining;
+        int lengthB = b.remaining;
+
+        NumberListImpl result = new NumberListImpl();
+        result.setBase(currentBase);
+        int held = 0; // цифра, яка ще може зменшитись на позику
+        int pending = 0; // кількість нулів після неї
+        for (int i = lengthA; i > 0; i--) {
+            int difference = a.next() - (i <= lengthB ? b.next() : 0);
+            if (difference == 0) {
+                pending++;
+            } else if (difference > 0) {
+                result.appendSignificant(held);
+                for (; pending > 0; pending--) {
+                    result.appendSignificant(0);
+                }
+                held = difference;
+            } else {
+                // позика: відкладена цифра зменшується, нулі стають цифрами (основа - 1)
+                result.appendSignificant(held - 1);
+                for (; pending > 0; pending--) {
+                    result.appendDigit(currentBase - 1);
+                }
+                held = difference + currentBase;
+            }
+        }
+        result.appendSignificant(held);
+        for (; pending > 0; pending--) {
+            result.appendSignificant(0);
+        }
+        return result;
+    }
+
+    /**
+     * Повертає новий список - добуток цього числа та arg у системі числення
+     * цього списку. Множаться безпосередньо двійкові слова чисел: "в стовпчик"
+     * для коротких, методом Карацуби для довгих та Тоома-Кука (Toom-3) для
+     * дуже довгих чисел. Операнди не змінюються.
+     *
+     * @param arg - second factor.
+     * @return product of this number and arg.
+     */
+    public NumberListImpl multiply(NumberList arg) {
+        if (arg == null) {
+            throw new NullPointerException("Argument is null");
+        }
+        return fromLimbs(Limbs.multiply(toLimbs(), limbsOf(arg)), currentBase);
+    }
+
+    /**
+     * Порівнює значення чисел (старші нулі та система числення не
+     * враховуються, тому порядок не узгоджений з {@link #equals(Object)}).
+     * Для однакових систем числення - один прохід від старшої цифри.
+     *
+     * @param arg - number to compare with.
+     * @return negative, zero or positive value if this number is less than,
+     *         equal to or greater than arg.
+     */
+    @Override
+    public int compareTo(NumberList arg) {
+        if (arg == null) {
+            throw new NullPointerException("Argument is null");
+        }
+        if (!(arg instanceof NumberListImpl) || ((NumberListImpl) arg).currentBase != currentBase) {
+            return Limbs.compare(toLimbs(), limbsOf(arg));
+        }
+
+        DigitCursor a = significantDigits();
+        DigitCursor b = ((NumberListImpl) arg).significantDigits();
+        if (a.remaining != b.remaining) {
+            return a.remaining < b.remaining ? -1 : 1;
+        }
+        for (int i = a.remaining; i > 0; i--) {
+            int x = a.next();
+            int y = b.next();
+            if (x != y) {
+                return x < y ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Повертає arg у системі числення цього списку (без копіювання, якщо вона вже збігається)
+     */
+    private NumberListImpl sameBase(NumberList arg) {
+        if (arg == null) {
+            throw new NullPointerException("Argument is null");
+        }
+        if (arg instanceof NumberListImpl && ((NumberListImpl) arg).currentBase == currentBase) {
+            return (NumberListImpl) arg;
+        }
+        return fromLimbs(limbsOf(arg), currentBase);
+    }
+
+    /**
+     * Додає цифру в кінець, пропускаючи старші нулі результату
+     */
+    private void appendSignificant(int value) {
+        if (size > 0 || value != 0) {
+            appendDigit(value);
+        }
+    }
+
+    /**
+     * Повертає курсор, встановлений на першу ненульову цифру
+     */
+    private DigitCursor significantDigits() {
+        DigitCursor cursor = new DigitCursor();
+        if (isEmpty()) {
+            return cursor;
+        }
+        cursor.current = head;
+        cursor.remaining = size;
+        while (cursor.remaining > 0) {
+            if (cursor.offset == cursor.current.count) {
+                cursor.current = cursor.current.next;
+                cursor.offset = 0;
+            }
+            if (digit(cursor.current, cursor.offset) != 0) {
+                break;
+            }
+            cursor.offset++;
+            cursor.remaining--;
+        }
+        return cursor;
+    }
+
+    /**
+     * Повертає курсор, встановлений на першу цифру списку
+     */
+    private DigitCursor allDigits() {
+        DigitCursor cursor = new DigitCursor();
+        cursor.current = head;
+        cursor.remaining = size;
+        return cursor;
+    }
+
+    /**
+     * Курсор для читання цифр від старшої до молодшої без упаковування в Byte
+     */
+    private final class DigitCursor {
+        Node current; // вузол з наступною цифрою
+        int offset; // позиція наступної цифри у вузлі (може дорівнювати current.count)
+        int remaining; // кількість цифр, що залишились
+
+        int next() {
+            if (offset == current.count) {
+                current = current.next;
+                offset = 0;
+            }
+            remaining--;
+            return digit(current, offset++);
+        }
+    }
+
+    /**
+     * Повертає значення списку у вигляді масиву 32-бітних слів {@link Limbs}
+     */
+    int[] toLimbs() {
+        DigitCursor cursor = allDigits();
+        return RadixConversion.fromDigits(cursor::next, size, currentBase);
+    }
+
+    /**
+     * Повертає значення довільного <tt>NumberList</tt> у вигляді слів.
+     * Власні реалізації читаються у своїй системі числення; цифри сторонніх
+     * реалізацій <tt>NumberList</tt> вважаються двійковими.
+     */
+    static int[] limbsOf(NumberList list) {
+        if (list instanceof NumberListImpl) {
+            return ((NumberListImpl) list).toLimbs();
+        }
+        if (list instanceof OffHeapNumberList) {
+            return ((OffHeapNumberList) list).toLimbs();
+        }
+        if (list instanceof ConcurrentNumberList) {
+            return ((ConcurrentNumberList) list).snapshot().toLimbs();
+        }
+        NumberListImpl copy = new NumberListImpl();
+        copy.addAll(list);
+        return copy.toLimbs();
+    }
+
+    /**
+     * Створює двійковий список за значенням у вигляді слів
+     */
+    static NumberListImpl fromLimbs(int[] mag) {
+        NumberListImpl result = new NumberListImpl();
+        result.appendBinary(mag);
+        return result;
+    }
+
+    /**
+     * Створює список у системі числення base за значенням у вигляді слів
+     */
+    private static NumberListImpl fromLimbs(int[] mag, int base) {
+        if (base == BASE) {
+            return fromLimbs(mag);
+        }
+        NumberListImpl result = new NumberListImpl();
+        result.setBase(base);
+        if (1 << result.bitsPerDigit == base) {
+            // для основ-степенів двійки цифри - групи бітів слів, від старшої групи
+            int bitsPerDigit = result.bitsPerDigit;
+            int mask = (1 << bitsPerDigit) - 1;
+            long digits = (Limbs.bitLength(mag) + bitsPerDigit - 1) / bitsPerDigit;
+            for (long bit = (digits - 1) * bitsPerDigit; bit >= 0; bit -= bitsPerDigit) {
+                int index = (int) (bit >>> 5);
+                long window = mag[index] & Limbs.MASK;
+                if (index + 1 < mag.length) {
+                    window |= (mag[index + 1] & Limbs.MASK) << 32;
+                }
+                result.appendDigit((int) (window >>> (bit & 31)) & mask);
+            }
+            return result;
+        }
+        RadixConversion.toDigits(mag, base, result::appendDigit);
+        return result;
+    }
+
+    /**
+     * Додає в кінець двійкового списку біти значення від старшого до молодшого;
+     * кожне додавання в кінець кільця виконується за O(1), тож побудова лінійна
+     */
+    private void appendBinary(int[] mag) {
+        for (long bit = Limbs.bitLength(mag) - 1; bit >= 0; bit--) {
+            appendDigit(mag[(int) (bit >>> 5)] >>> (bit & 31) & 1);
+        }
+    }
+
+
+    /**
+     * Returns string representation of number, stored in the list
+     * in <b>decimal</b> scale of notation.
+     *
+     * @return string representation in <b>decimal</b> scale.
+     */
+    public String toDecimalString() {
+        Cache current = validCache();
+        String decimal = current.decimal;
+        if (decimal == null) {
+            // десяткових цифр не більше, ніж size * log10(base) + 1
+            StringBuilder sb = new StringBuilder((int) (size * Math.log10(currentBase)) + 1);
+            try {
+                writeDecimal(sb);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // StringBuilder не кидає IOException
+            }
+            decimal = sb.toString();
+            cache = new Cache(current.stamp, current.hashValid, current.hash, decimal, current.ternary);
+        }
+        return decimal;
+    }
+
+
+    /**
+     * Паралельний варіант {@link #toDecimalString()}: число ділиться на
+     * степені десяти, і старша та молодша частини переводяться окремими
+     * задачами у пулі pool, доки частина не стане коротшою за threshold
+     * десяткових цифр. Результат збігається з послідовним варіантом.
+     *
+     * @param pool - pool which performs the conversion.
+     * @param threshold - number of decimal digits below which parts are converted sequentially.
+     * @return string representation in <b>decimal</b> scale.
+     * @throws NullPointerException if pool is null.
+     * @throws IllegalArgumentException if threshold is not positive.
+     */
+    public String toDecimalString(ForkJoinPool pool, int threshold) {
+        // аргументи перевіряються і тоді, коли рядок уже є в кеші
+        checkParallelArguments(pool, threshold);
+        Cache current = validCache();
+        String decimal = current.decimal;
+        if (decimal == null) {
+            decimal = new String(renderDecimal(pool, threshold), StandardCharsets.US_ASCII);
+            cache = new Cache(current.stamp, current.hashValid, current.hash, decimal, current.ternary);
+        }
+        return decimal;
+    }
+
+    /**
+     * Перевіряє пул та поріг паралельного переведення
+     */
+    private static void checkParallelArguments(ForkJoinPool pool, int threshold) {
+        if (pool == null) {
+            throw new NullPointerException("Pool is null");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+    }
+
+    /**
+     * Паралельно переводить число у десяткові ASCII цифри
+     */
+    private byte[] renderDecimal(ForkJoinPool pool, int threshold) {
+        return RadixConversion.toAscii(toLimbs(), 10, pool, threshold);
+    }
+
+
+    /**
+     * Перемикає спосіб зв'язування вузлів кільця. У двонаправленому кільці
+     * кожен вузол посилається також на попередній, тому previous() ітератора,
+     * зворотний обхід, remove(size() - 1) та shiftRight() не обходять кільце
+     * від голови. Перемикання виконується за один обхід вузлів.
+     *
+     * @param enabled - <tt>true</tt> for doubly-linked ring, <tt>false</tt> for singly-linked ring.
+     */
+    public void setDoublyLinked(boolean enabled) {
+        if (enabled == doublyLinked) {
+            return;
+        }
+        doublyLinked = enabled;
+
+        if (!isEmpty()) {
+            Node current = head;
+            do {
+                current.next.prev = enabled ? current : null;
+                current = current.next;
+            } while (current != head);
+        }
+    }
+
+    /**
+     * Returns <tt>true</tt> if nodes of the ring are linked in both directions.
+     *
+     * @return <tt>true</tt> for doubly-linked ring.
+     */
+    public boolean isDoublyLinked() {
+        return doublyLinked;
+    }
+
+
+    /**
+     * Встановлює розмір пулу вузлів списку. Вузли, вилучені з кільця
+     * (remove, clear, removeAll, арифметичний зсув праворуч тощо), зберігаються
+     * у пулі та використовуються повторно замість створення нових, тож
+     * операції, що по черзі додають і видаляють цифри, не навантажують
+     * збирач сміття. Пул утримує не більше maxNodes вузлів, решта вузлів
+     * звільняється як зазвичай. Значення 0 (за замовчуванням) вимикає пул
+     * і звільняє всі накопичені в ньому вузли.
+     *
+     * @param maxNodes - maximum number of retained free nodes, 0 disables the pool.
+     * @throws IllegalArgumentException if maxNodes is negative.
+     */
+    public void setNodePoolLimit(int maxNodes) {
+        if (maxNodes < 0) {
+            throw new IllegalArgumentException("Negative pool limit: " + maxNodes);
+        }
+        nodePoolLimit = maxNodes;
+        while (freeCount > maxNodes) {
+            freeNodes = freeNodes.next;
+            freeCount--;
+        }
+    }
+
+    /**
+     * Returns maximum number of free nodes retained by the list.
+     *
+     * @return pool limit, 0 if the pool is disabled.
+     */
+    public int getNodePoolLimit() {
+        return nodePoolLimit;
+    }
+
+    /**
+     * Кількість вузлів, що зараз знаходяться у пулі
+     */
+    int pooledNodes() {
+        return freeCount;
+    }
+
+
+    /**
+     * Повертає оцінку кількості байтів купи, які займає одна цифра
+     * (вузли та масиви слів на 64-бітній JVM зі стиснутими посиланнями).
+     *
+     * @return середня кількість байтів на цифру, або 0 для порожнього списку.
+     */
+    public double bytesPerDigit() {
+        if (isEmpty()) {
+            return 0;
+        }
+
+        long nodes = 0;
+        Node current = head;
+        do {
+            nodes++;
+            current = current.next;
+        } while (current != head);
+
+        return (double) nodes * NODE_BYTES / size;
+    }
+
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "";
+        }
+
+        // повертаємо число як рядок цифр (без розділювачів)
+        StringBuilder sb = new StringBuilder(size);
+        Node current = head;
+        do {
+            for (int i = 0; i < current.count; i++) {
+                sb.append(DIGIT_CHARS[digit(current, i)]);
+            }
+            current = current.next;
+        } while (current != head);
+
+        return sb.toString();
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof NumberList)) return false;
+
+        NumberList other = (NumberList) o;
+        if (this.size() != other.size()) return false;
+
+        if (other instanceof NumberListImpl) {
+            // різні кешовані хеш-коди означають різні списки
+            NumberListImpl list = (NumberListImpl) other;
+            Cache cache1 = validCache();
+            Cache cache2 = list.validCache();
+            if (cache1.hashValid && cache2.hashValid && cache1.hash != cache2.hash) {
+                return false;
+            }
+
+            // порівнюємо цифри без упаковування в Byte
+            DigitCursor cursor1 = allDigits();
+            DigitCursor cursor2 = list.allDigits();
+            while (cursor1.remaining > 0) {
+                if (cursor1.next() != cursor2.next()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // порівнюємо елемент за елементом
+        Iterator<Byte> it1 = this.iterator();
+        Iterator<Byte> it2 = other.iterator();
+
+        while (it1.hasNext()) {
+            if (!it1.next().equals(it2.next())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Хеш-код за контрактом {@link List#hashCode()}, узгоджений з
+     * {@link #equals(Object)}. Обчислюється один раз до наступної зміни списку.
+     */
+    @Override
+    public int hashCode() {
+        Cache current = validCache();
+        if (current.hashValid) {
+            return current.hash;
+        }
+
+        int h = 1;
+        if (!isEmpty()) {
+            Node node = head;
+            do {
+                for (int i = 0; i < node.count; i++) {
+                    h = 31 * h + digit(node, i); // Byte.hashCode() - значення цифри
+                }
+                node = node.next;
+            } while (node != head);
+        }
+        cache = new Cache(current.stamp, true, h, current.decimal, current.ternary);
+        return h;
+    }
+
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+
+    @Override
+    public Iterator<Byte> iterator() {
+        return new Iterator<Byte>() {
+            private Node previous = tail; // вузол перед поточним (для вилучення вузла)
+            private Node current = head;
+            private int offset = 0; // позиція цифри у поточному вузлі
+            private int count = 0; // лічильник пройдених елементів
+            private int expectedModCount = modCount;
+            private boolean canRemove;
+
+            @Override
+            public boolean hasNext() {
+                return count < size;
+            }
+
+            @Override
+            public Byte next() {
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
                 if (!hasNext()) {
                     throw new NoSuchElementException();
                 }
-                Byte data = current.data;
-                current = current.next; // переходимо до наступного
+                if (offset == current.count) {
+                    previous = current;
+                    current = current.next; // переходимо до наступного вузла
+                    offset = 0;
+                }
                 count++;
-                return data;
+                canRemove = true;
+                return (byte) digit(current, offset++);
+            }
+
+            @Override
+            public void remove() {
+                if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (!canRemove) {
+                    throw new IllegalStateException();
+                }
+
+                // видаляємо цифру безпосередньо з поточного вузла, без обходу від голови;
+                // перед головою завжди хвіст (початковий хвіст міг бути об'єднаний з головою)
+                if (current == head) {
+                    previous = tail;
+                }
+                removeFromNode(previous, current, --offset);
+                if (current.count == 0) {
+                    // вузол вилучено з кільця: наступним буде вузол після попереднього
+                    current = previous;
+                    offset = previous.count;
+                }
+                count--;
+                canRemove = false;
+                expectedModCount = modCount;
+            }
+        };
+    }
+
+
+    /**
+     * Spliterator ділить кільце за кількістю цифр, тому паралельні потоки
+     * отримують рівні частини незалежно від розміщення цифр у вузлах.
+     */
+    @Override
+    public Spliterator<Byte> spliterator() {
+        return new NumberListSpliterator(head, 0, size, modCount);
+    }
+
+
+    @Override
+    public Object[] toArray() {
+        Object[] array = new Object[size];
+        int index = 0;
+
+        if (!isEmpty()) {
+            Node current = head;
+            do {
+                for (int i = 0; i < current.count; i++) {
+                    array[index++] = (byte) digit(current, i);
+                }
+                current = current.next;
+            } while (current != head);
+        }
+
+        return array;
+    }
+
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        // Not implemented as per assignment requirements
+        return null;
+    }
+
+
+    @Override
+    public boolean add(Byte e) {
+        checkDigit(e);
+
+        appendDigit(e);
+        return true;
+    }
+
+
+    @Override
+    public boolean remove(Object o) {
+        if (isEmpty() || !(o instanceof Byte)) {
+            return false;
+        }
+
+        // шукаємо елемент для видалення, запам'ятовуючи попередній вузол
+        int value = (Byte) o;
+        Node previous = tail;
+        Node current = head;
+        do {
+            for (int i = 0; i < current.count; i++) {
+                if (digit(current, i) == value) {
+                    removeFromNode(previous, current, i);
+                    return true;
+                }
+            }
+            previous = current;
+            current = current.next;
+        } while (current != head);
+
+        return false;
+    }
+
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object item : c) {
+            if (!contains(item)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    @Override
+    public boolean addAll(Collection<? extends Byte> c) {
+        return addAll(size, c);
+    }
+
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Byte> c) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        // нові цифри спочатку збираються в окремий ланцюжок вузлів (при
+        // некоректній цифрі список не змінюється), який потім вставляється
+        // одним обходом до місця вставки
+        return splice(index, chainOf(c));
+    }
+
+    /**
+     * Будує окремий список з цифр колекції у системі числення цього списку.
+     * Список тієї ж системи числення копіюється цілими словами.
+     */
+    private NumberListImpl chainOf(Collection<? extends Byte> c) {
+        if (c instanceof NumberListImpl && ((NumberListImpl) c).currentBase == currentBase) {
+            return ((NumberListImpl) c).copy();
+        }
+
+        NumberListImpl chain = new NumberListImpl();
+        chain.setBase(currentBase);
+        for (Byte item : c) {
+            checkDigit(item);
+            chain.appendDigit(item);
+        }
+        return chain;
+    }
+
+    /**
+     * Вставляє всі вузли списку chain перед позицією index цього списку
+     */
+    private boolean splice(int index, NumberListImpl chain) {
+        if (chain.isEmpty()) {
+            return false;
+        }
+
+        if (doublyLinked) {
+            // ланцюжок будувався окремо - додаємо зворотні посилання між його вузлами
+            for (Node node = chain.head; node != chain.tail; node = node.next) {
+                node.next.prev = node;
+            }
+        }
+
+        if (isEmpty()) {
+            head = chain.head;
+            tail = chain.tail;
+            link(tail, head);
+        } else if (index == size) {
+            // у кінець: ланцюжок між хвостом та головою
+            link(chain.tail, head);
+            link(tail, chain.head);
+            tail = chain.tail;
+        } else if (index == 0) {
+            // на початок: ланцюжок стає новою головою
+            link(chain.tail, head);
+            link(tail, chain.head);
+            head = chain.head;
+        } else {
+            // знаходимо вузол з позицією вставки; вузол ділиться на дві частини,
+            // якщо позиція припадає на його середину
+            Node previous = tail;
+            Node current = head;
+            while (index >= current.count) {
+                index -= current.count;
+                previous = current;
+                current = current.next;
+            }
+            if (index > 0) {
+                splitNodeAt(current, index);
+                previous = current;
+            }
+            link(chain.tail, previous.next);
+            link(previous, chain.head);
+        }
+
+        size += chain.size;
+        modCount++;
+        return true;
+    }
+
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        // цифр лише currentBase, тому колекція опитується один раз для кожної з них
+        boolean[] removed = new boolean[currentBase];
+        boolean any = false;
+        for (int d = 0; d < currentBase; d++) {
+            removed[d] = c.contains((byte) d);
+            any |= removed[d];
+        }
+        return any && compact((index, digit) -> removed[digit]);
+    }
+
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean[] removed = new boolean[currentBase];
+        boolean any = false;
+        for (int d = 0; d < currentBase; d++) {
+            removed[d] = !c.contains((byte) d);
+            any |= removed[d];
+        }
+        return any && compact((index, digit) -> removed[digit]);
+    }
+
+
+    @Override
+    public boolean removeIf(Predicate<? super Byte> filter) {
+        if (filter == null) {
+            throw new NullPointerException("Filter is null");
+        }
+        if (isEmpty()) {
+            return false;
+        }
+
+        // спочатку позначаємо цифри для видалення: якщо умова кине виняток,
+        // список залишиться незмінним
+        long[] marks = new long[(size + 63) >>> 6];
+        boolean any = false;
+        int index = 0;
+        Node current = head;
+        do {
+            for (int i = 0; i < current.count; i++, index++) {
+                if (filter.test((byte) digit(current, i))) {
+                    marks[index >>> 6] |= 1L << index;
+                    any = true;
+                }
+            }
+            current = current.next;
+        } while (current != head);
+
+        return any && compact((position, digit) -> (marks[position >>> 6] & 1L << position) != 0);
+    }
+
+    /**
+     * Умова видалення цифри за її позицією та значенням
+     */
+    private interface DigitFilter {
+        boolean remove(int index, int digit);
+    }
+
+    /**
+     * Видаляє за один обхід усі цифри, для яких filter повертає true.
+     * Решта цифр ущільнюється на місці до початку кільця (вузли заповнюються
+     * повністю), після чого звільнені вузли відкидаються, а кільце замикається
+     * на останньому заповненому вузлі.
+     */
+    private boolean compact(DigitFilter filter) {
+        if (isEmpty()) {
+            return false;
+        }
+
+        // позиція запису завжди не випереджає позицію читання
+        Node write = head;
+        int w = 0;
+        int kept = 0;
+        int index = 0;
+        Node read = head;
+        do {
+            for (int i = 0; i < read.count; i++) {
+                int value = digit(read, i);
+                if (filter.remove(index++, value)) {
+                    continue;
+                }
+                if (w == chunkCapacity) {
+                    write.count = chunkCapacity;
+                    write = write.next;
+                    w = 0;
+                }
+                putDigit(write, w++, value);
+                kept++;
+            }
+            read = read.next;
+        } while (read != head);
+
+        // навіть без видалених цифр вузли могли бути ущільнені
+        boolean removed = kept != size;
+        if (kept == 0) {
+            releaseNodes(head, tail);
+            head = null;
+            tail = null;
+        } else {
+            for (int i = w; i < write.count; i++) {
+                putDigit(write, i, 0);
+            }
+            write.count = w;
+            // вузли після write більше не потрібні
+            Node dropped = write.next;
+            Node oldTail = tail;
+            link(write, head);
+            tail = write;
+            if (write != oldTail) {
+                releaseNodes(dropped, oldTail);
+            }
+        }
+        size = kept;
+        modCount++;
+        return removed;
+    }
+
+
+    @Override
+    public void clear() {
+        if (head != null) {
+            releaseNodes(head, tail);
+        }
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+
+    @Override
+    public Byte get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        // знаходимо вузол, який містить цифру з цим індексом
+        Node current = head;
+        while (index >= current.count) {
+            index -= current.count;
+            current = current.next;
+        }
+
+        return (byte) digit(current, index);
+    }
+
+
+    @Override
+    public Byte set(int index, Byte element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        checkDigit(element);
+
+        Node current = head;
+        while (index >= current.count) {
+            index -= current.count;
+            current = current.next;
+        }
+
+        byte oldValue = (byte) digit(current, index);
+        putDigit(current, index, element);
+        setCount++;
+        return oldValue;
+    }
+
+
+    @Override
+    public void add(int index, Byte element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        checkDigit(element);
+
+        // вставка в кінець не потребує обходу
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        // знаходимо вузол, який містить позицію вставки
+        Node current = head;
+        while (index >= current.count) {
+            index -= current.count;
+            current = current.next;
+        }
+
+        if (current.count == chunkCapacity) {
+            if (index == 0 && current == head) {
+                // на початку списку додаємо новий головний вузол
+                prependNode();
+                current = head;
+            } else {
+                // ділимо заповнений вузол навпіл
+                Node upper = splitNode(current);
+                if (index > current.count) {
+                    index -= current.count;
+                    current = upper;
+                }
+            }
+        }
+
+        insertIntoNode(current, index, element);
+        size++;
+        modCount++;
+    }
+
+
+    @Override
+    public Byte remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        // видалення останньої цифри без обходу, якщо хвостовий вузол не спорожніє
+        if (index == size - 1 && tail.count > 1) {
+            byte removedValue = (byte) digit(tail, --tail.count);
+            putDigit(tail, tail.count, 0);
+            size--;
+            modCount++;
+            return removedValue;
+        }
+
+        // знаходимо вузол з цифрою та попередній до нього вузол; у
+        // двонаправленому кільці цифри другої половини шукаються від хвоста
+        Node previous = tail;
+        Node current = head;
+        if (doublyLinked && index >= size / 2) {
+            current = tail;
+            int start = size - tail.count; // індекс першої цифри вузла current
+            while (index < start) {
+                current = current.prev;
+                start -= current.count;
             }
-        };
+            index -= start;
+            previous = current.prev;
+        } else {
+            while (index >= current.count) {
+                index -= current.count;
+                previous = current;
+                current = current.next;
+            }
+        }
+
+        byte removedValue = (byte) digit(current, index);
+        removeFromNode(previous, current, index);
+
+        return removedValue;
     }
 
 
     @Override
-    public Object[] toArray() {
-        Object[] array = new Object[size];
+    public int indexOf(Object o) {
+        if (isEmpty() || !(o instanceof Byte)) {
+            return -1;
+        }
+
+        int value = (Byte) o;
+        Node current = head;
         int index = 0;
+        do {
+            for (int i = 0; i < current.count; i++) {
+                if (digit(current, i) == value) {
+                    return index + i;
+                }
+            }
+            index += current.count;
+            current = current.next;
+        } while (current != head);
 
-        if (!isEmpty()) {
-            Node current = head;
-            do {
-                array[index++] = current.data;
-                current = current.next;
-            } while (current != head);
+        return -1;
+    }
+
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (isEmpty() || !(o instanceof Byte)) {
+            return -1;
         }
 
-        return array;
+        int value = (Byte) o;
+        Node current = head;
+        int index = 0;
+        int lastIndex = -1;
+
+        do {
+            for (int i = 0; i < current.count; i++) {
+                if (digit(current, i) == value) {
+                    lastIndex = index + i;
+                }
+            }
+            index += current.count;
+            current = current.next;
+        } while (current != head);
+
+        return lastIndex;
     }
 
 
     @Override
-    public <T> T[] toArray(T[] a) {
-        // Not implemented as per assignment requirements
-        return null;
+    public ListIterator<Byte> listIterator() {
+        return new NumberListIterator(0);
     }
 
 
     @Override
-    public boolean add(Byte e) {
-        if (e == null) {
-            throw new NullPointerException("Null elements are not permitted");
+    public ListIterator<Byte> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
         }
+        return new NumberListIterator(index);
+    }
 
-        Node newNode = new Node(e);
 
-        if (isEmpty()) {
-            // якщо список порожній, створюємо перший елемент
-            head = newNode;
-            newNode.next = head; // вказуємо на себе (кільце)
-        } else {
-            // знаходимо останній елемент
-            Node tail = getTail();
-            tail.next = newNode;
-            newNode.next = head; // замикаємо кільце
+    @Override
+    public List<Byte> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
         }
 
-        size++;
-        return true;
+        // представлення без копіювання; незалежну копію повертає subListCopy
+        return new SubList(null, fromIndex, toIndex - fromIndex);
+    }
+
+
+    /**
+     * Повертає незалежну копію цифр з діапазону [fromIndex, toIndex)
+     * у тій самій системі числення. На відміну від {@link #subList(int, int)},
+     * зміни копії не впливають на цей список.
+     *
+     * @param fromIndex - low endpoint (inclusive) of the range.
+     * @param toIndex - high endpoint (exclusive) of the range.
+     * @return new <tt>NumberListImpl</tt> with digits of the range.
+     */
+    public NumberListImpl subListCopy(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        }
+
+        NumberListImpl copy = new NumberListImpl();
+        copy.setBase(this.currentBase); // зберігаємо ту саму систему числення
+        if (fromIndex == toIndex) {
+            return copy;
+        }
+
+        // один обхід до початку діапазону, далі цифри копіюються послідовно
+        Node current = head;
+        int index = fromIndex;
+        while (index >= current.count) {
+            index -= current.count;
+            current = current.next;
+        }
+        for (int remaining = toIndex - fromIndex; remaining > 0; remaining--) {
+            if (index == current.count) {
+                current = current.next;
+                index = 0;
+            }
+            copy.appendDigit(digit(current, index++));
+        }
+        return copy;
     }
 
 
     @Override
-    public boolean remove(Object o) {
-        if (isEmpty() || !(o instanceof Byte)) {
+    public boolean swap(int index1, int index2) {
+        if (index1 < 0 || index1 >= size || index2 < 0 || index2 >= size) {
             return false;
         }
 
-        // якщо видаляємо перший елемент
-        if (head.data.equals(o)) {
-            if (size == 1) {
-                head = null;
-            } else {
-                Node tail = getTail();
-                head = head.next;
-                tail.next = head; // оновлюємо кільце
-            }
-            size--;
-            return true;
+        if (index1 == index2) {
+            return true; // якщо індекси однакові, нічого не робимо
+        }
+
+        // міняємо елементи місцями
+        Byte temp = get(index1);
+        set(index1, get(index2));
+        set(index2, temp);
+
+        return true;
+    }
+
+
+    @Override
+    public void sortAscending() {
+        if (size <= 1) {
+            return;
         }
+        modCount++;
 
-        // шукаємо елемент для видалення
+        // сортування підрахунком: цифри обмежені основою системи числення
+        int[] counts = countDigits();
+        int value = 0;
         Node current = head;
         do {
-            if (current.next.data.equals(o)) {
-                current.next = current.next.next;
-                size--;
-                return true;
+            for (int i = 0; i < current.count; i++) {
+                while (counts[value] == 0) {
+                    value++;
+                }
+                counts[value]--;
+                putDigit(current, i, value);
             }
             current = current.next;
         } while (current != head);
-
-        return false;
     }
 
 
     @Override
-    public boolean containsAll(Collection<?> c) {
-        for (Object item : c) {
-            if (!contains(item)) {
-                return false;
+    public void sortDescending() {
+        if (size <= 1) {
+            return;
+        }
+        modCount++;
+
+        // сортування підрахунком (по спаданню)
+        int[] counts = countDigits();
+        int value = currentBase - 1;
+        Node current = head;
+        do {
+            for (int i = 0; i < current.count; i++) {
+                while (counts[value] == 0) {
+                    value--;
+                }
+                counts[value]--;
+                putDigit(current, i, value);
+            }
+            current = current.next;
+        } while (current != head);
+    }
+
+    /**
+     * Підраховує кількість кожної цифри у списку за один прохід
+     */
+    private int[] countDigits() {
+        int[] counts = new int[currentBase];
+        Node current = head;
+        do {
+            if (bitsPerDigit == 1) {
+                // для двійкових цифр достатньо порахувати одиничні біти слів
+                for (long word : current.words) {
+                    counts[1] += Long.bitCount(word);
+                }
+            } else {
+                for (int i = 0; i < current.count; i++) {
+                    counts[digit(current, i)]++;
+                }
             }
+            current = current.next;
+        } while (current != head);
+
+        if (bitsPerDigit == 1) {
+            counts[0] = size - counts[1];
         }
-        return true;
+        return counts;
     }
 
 
     @Override
-    public boolean addAll(Collection<? extends Byte> c) {
-        boolean modified = false;
-        for (Byte item : c) {
-            if (add(item)) {
-                modified = true;
-            }
+    public void shiftLeft() {
+        if (size <= 1) {
+            return;
+        }
+        modCount++;
+
+        // якщо головний вузол містить одну цифру - просто повертаємо кільце
+        if (head.count == 1) {
+            tail = head;
+            head = head.next;
+            return;
+        }
+
+        // інакше переносимо першу цифру в кінець списку
+        int first = removeFromNodeAt(head, 0);
+        if (tail.count == chunkCapacity) {
+            appendNode();
         }
-        return modified;
+        putDigit(tail, tail.count++, first);
     }
 
 
     @Override
-    public boolean addAll(int index, Collection<? extends Byte> c) {
-        if (index < 0 || index > size) {
-            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    public void shiftRight() {
+        if (size <= 1) {
+            return;
+        }
+        modCount++;
+
+        // якщо хвостовий вузол містить одну цифру - повертаємо кільце;
+        // в однонаправленому кільці новий хвіст можна знайти лише обходом
+        if (tail.count == 1) {
+            Node newTail = previousNode(tail);
+            head = tail;
+            tail = newTail;
+            return;
         }
 
-        boolean modified = false;
-        for (Byte item : c) {
-            add(index++, item);
-            modified = true;
+        // інакше переносимо останню цифру на початок списку
+        int last = digit(tail, --tail.count);
+        putDigit(tail, tail.count, 0);
+        if (head.count == chunkCapacity) {
+            prependNode();
         }
-        return modified;
+        insertIntoNode(head, 0, last);
     }
 
 
-    @Override
-    public boolean removeAll(Collection<?> c) {
-        boolean modified = false;
-        for (Object item : c) {
-            while (remove(item)) {
-                modified = true;
-            }
+    /**
+     * Performs left cyclic shift by k positions: digit with index k becomes
+     * the first one. Negative k shifts to the right.<p>
+     *
+     * k is reduced modulo size, and the ring is not moved digit by digit:
+     * head is moved once to the node with the new first digit (the node
+     * is split if the digit is inside it).
+     *
+     * @param k - number of positions.
+     */
+    public void shiftLeft(int k) {
+        if (size > 1) {
+            rotate(Math.floorMod(k, size));
+        }
+    }
+
+    /**
+     * Performs right cyclic shift by k positions: the last k digits
+     * become the first ones. Negative k shifts to the left.<p>
+     *
+     * k is reduced modulo size, as in {@link #shiftLeft(int)}.
+     *
+     * @param k - number of positions.
+     */
+    public void shiftRight(int k) {
+        if (size > 1) {
+            rotate((int) Math.floorMod(-(long) k, (long) size));
         }
-        return modified;
     }
 
+    /**
+     * Робить цифру з індексом first першою цифрою кільця. Вузол з нею
+     * шукається переходами між вузлами від голови, а у двонаправленому
+     * кільці для другої половини списку - від хвоста, тобто в коротшому
+     * напрямку. Цифри переносяться лише при поділі цього вузла.
+     */
+    private void rotate(int first) {
+        if (first == 0) {
+            return;
+        }
+        modCount++;
+
+        Node node;
+        Node before; // вузол перед node
+        int start; // індекс першої цифри node
+        if (doublyLinked && first > size / 2) {
+            node = tail;
+            start = size - tail.count;
+            while (start > first) {
+                node = node.prev;
+                start -= node.count;
+            }
+            before = node.prev;
+        } else {
+            node = head;
+            before = tail;
+            start = 0;
+            while (start + node.count <= first) {
+                start += node.count;
+                before = node;
+                node = node.next;
+            }
+        }
 
-    @Override
-    public boolean retainAll(Collection<?> c) {
-        boolean modified = false;
-        Iterator<Byte> it = iterator();
-        while (it.hasNext()) {
-            if (!c.contains(it.next())) {
-                it.remove();
-                modified = true;
+        Node oldHead = head;
+        Node oldTail = tail;
+        if (first > start) {
+            before = node;
+            node = splitNodeAt(node, first - start);
+        }
+        head = node;
+        tail = before;
+
+        // колишні хвіст і голова тепер сусідні; якщо вони вміщуються в один
+        // вузол - об'єднуємо їх, щоб повторні повороти не дробили кільце
+        // (частини вузла, поділеного попереднім поворотом, завжди вміщуються)
+        Node left = oldTail.next == oldHead ? oldTail : oldTail.next;
+        if (left.count + oldHead.count <= chunkCapacity) {
+            for (int i = 0; i < oldHead.count; i++) {
+                putDigit(left, left.count + i, digit(oldHead, i));
             }
+            left.count += oldHead.count;
+            unlinkNode(left, oldHead);
         }
-        return modified;
     }
 
 
-    @Override
-    public void clear() {
-        head = null;
-        size = 0;
+    /**
+     * Арифметичний зсув ліворуч: дописує k нульових молодших цифр, тобто
+     * множить число на base^k (2^k для двійкового списку). Нулі займають
+     * вільні позиції хвостового вузла, а решта - нові заповнені вузли, тож
+     * зсув виконується за O(k / кількість цифр у вузлі). Нуль (порожній
+     * список або лише нулі) після зсуву - порожній список.
+     *
+     * @param k - number of digits to shift by.
+     * @throws IllegalArgumentException if k is negative.
+     * @throws ArithmeticException if the result does not fit into the list.
+     */
+    public void shiftLeftArithmetic(int k) {
+        checkShiftDistance(k);
+        if (k == 0) {
+            return;
+        }
+        if (significantDigits().remaining == 0) {
+            clear();
+            return;
+        }
+        if (k > Integer.MAX_VALUE - size) {
+            throw new ArithmeticException("Number is too long for the list");
+        }
+
+        // невикористані позиції вузлів завжди нульові, тож достатньо збільшити лічильники
+        int fill = Math.min(k, chunkCapacity - tail.count);
+        tail.count += fill;
+        for (int rest = k - fill; rest > 0; rest -= chunkCapacity) {
+            appendNode();
+            tail.count = Math.min(rest, chunkCapacity);
+        }
+        size += k;
+        modCount++;
     }
 
+    /**
+     * Арифметичний зсув праворуч: відкидає k молодших цифр, тобто ділить
+     * число на base^k (2^k для двійкового списку) без остачі. Вузли з
+     * відкинутими цифрами вилучаються з кільця цілком; новий хвіст у
+     * двонаправленому кільці шукається від хвоста, в однонаправленому -
+     * від голови (лише переходи між вузлами). Якщо значущих цифр не
+     * залишилось, список стає порожнім.
+     *
+     * @param k - number of digits to shift by.
+     * @throws IllegalArgumentException if k is negative.
+     */
+    public void shiftRightArithmetic(int k) {
+        checkShiftDistance(k);
+        if (k == 0) {
+            return;
+        }
+        if (k >= size) {
+            clear();
+            return;
+        }
+
+        // вузол з новою останньою цифрою (індекс last) та його перший індекс
+        int last = size - k - 1;
+        Node node;
+        int start;
+        if (doublyLinked && k <= last) {
+            node = tail;
+            start = size - tail.count;
+            while (start > last) {
+                node = node.prev;
+                start -= node.count;
+            }
+        } else {
+            node = head;
+            start = 0;
+            while (start + node.count <= last) {
+                start += node.count;
+                node = node.next;
+            }
+        }
 
-    @Override
-    public Byte get(int index) {
-        if (index < 0 || index >= size) {
-            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        Node dropped = node.next; // перший вузол, усі цифри якого відкидаються
+        Node oldTail = tail;
+
+        // обнуляємо відкинуті цифри вузла цілими словами
+        int count = last - start + 1;
+        if (count < node.count) {
+            int word = (int) (count * wordReciprocal >>> 32);
+            int shift = (count - word * digitsPerWord) * bitsPerDigit;
+            node.words[word] &= (1L << shift) - 1;
+            Arrays.fill(node.words, word + 1, CHUNK_WORDS, 0);
+            node.count = count;
+        }
+        tail = node;
+        link(tail, head);
+        size = last + 1;
+        modCount++;
+        if (node != oldTail) {
+            releaseNodes(dropped, oldTail);
         }
 
-        Node current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.next;
+        if (significantDigits().remaining == 0) {
+            clear();
         }
+    }
+
+    /**
+     * Перевіряє відстань арифметичного зсуву
+     */
+    private static void checkShiftDistance(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Negative shift distance: " + k);
+        }
+    }
+
+    /**
+     * Перевіряє, що елемент є цифрою поточної системи числення
+     */
+    private void checkDigit(Byte digit) {
+        if (digit == null) {
+            throw new NullPointerException("Null elements are not permitted");
+        }
+        if (digit < 0 || digit >= currentBase) {
+            throw new IllegalArgumentException("Digit " + digit + " is out of range for base " + currentBase);
+        }
+    }
+
+    /**
+     * Додає перевірену цифру в кінець списку
+     */
+    private void appendDigit(int value) {
+        // якщо останній вузол заповнений, додаємо новий вузол у кінець кільця
+        if (isEmpty() || tail.count == chunkCapacity) {
+            appendNode();
+        }
+        putDigit(tail, tail.count++, value);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Повертає цифру з позиції index вузла
+     */
+    private int digit(Node node, int index) {
+        int word = (int) (index * wordReciprocal >>> 32);
+        int shift = (index - word * digitsPerWord) * bitsPerDigit;
+        return (int) (node.words[word] >>> shift & digitMask);
+    }
+
+    /**
+     * Записує цифру у позицію index вузла
+     */
+    private void putDigit(Node node, int index, int value) {
+        int word = (int) (index * wordReciprocal >>> 32);
+        int shift = (index - word * digitsPerWord) * bitsPerDigit;
+        node.words[word] = node.words[word] & ~(digitMask << shift) | (long) value << shift;
+    }
+
+    /**
+     * Вставляє цифру у позицію index незаповненого вузла, зсуваючи наступні цифри
+     */
+    private void insertIntoNode(Node node, int index, int value) {
+        // цифри від index зсуваються на одну позицію цілими словами: старша
+        // цифра кожного слова переходить у молодшу позицію наступного
+        long[] words = node.words;
+        int word = (int) (index * wordReciprocal >>> 32);
+        int shift = (index - word * digitsPerWord) * bitsPerDigit;
+        int top = (digitsPerWord - 1) * bitsPerDigit; // позиція старшої цифри слова
+        long used = -1L >>> (Long.SIZE - digitsPerWord * bitsPerDigit); // біти, зайняті цифрами
+
+        int last = (int) (node.count * wordReciprocal >>> 32);
+        for (int i = last; i > word; i--) {
+            words[i] = words[i] << bitsPerDigit & used | words[i - 1] >>> top & digitMask;
+        }
+        long keep = (1L << shift) - 1;
+        words[word] = words[word] & keep | (words[word] & ~keep) << bitsPerDigit & used | (long) value << shift;
+        node.count++;
+    }
 
-        return current.data;
+    /**
+     * Видаляє цифру з позиції index вузла, зсуваючи наступні цифри.
+     * Звільнені позиції завжди обнуляються.
+     */
+    private int removeFromNodeAt(Node node, int index) {
+        int removed = digit(node, index);
+
+        // наступні цифри зсуваються на одну позицію цілими словами: у слові з
+        // цифрою index - старша частина, далі - кожне слово, а молодша цифра
+        // наступного слова переходить у старшу позицію попереднього
+        long[] words = node.words;
+        int word = (int) (index * wordReciprocal >>> 32);
+        int shift = (index - word * digitsPerWord) * bitsPerDigit;
+        long keep = (1L << shift) - 1;
+        words[word] = words[word] & keep | words[word] >>> bitsPerDigit & ~keep;
+
+        int top = (digitsPerWord - 1) * bitsPerDigit; // позиція старшої цифри слова
+        int last = (int) ((node.count - 1) * wordReciprocal >>> 32);
+        for (int i = word + 1; i <= last; i++) {
+            words[i - 1] |= (words[i] & digitMask) << top;
+            words[i] >>>= bitsPerDigit;
+        }
+        node.count--;
+        return removed;
     }
 
+    /**
+     * Видаляє цифру з вузла та підтримує структуру кільця:
+     * порожній вузол вилучається, а малозаповнений об'єднується з наступним
+     */
+    private void removeFromNode(Node previous, Node node, int index) {
+        removeFromNodeAt(node, index);
+        size--;
+        modCount++;
 
-    @Override
-    public Byte set(int index, Byte element) {
-        if (index < 0 || index >= size) {
-            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        if (node.count == 0) {
+            unlinkNode(previous, node);
+            return;
         }
-        if (element == null) {
-            throw new NullPointerException("Null elements are not permitted");
+
+        Node next = node.next;
+        if (next != head && node.count + next.count <= chunkCapacity / 2) {
+            for (int i = 0; i < next.count; i++) {
+                putDigit(node, node.count + i, digit(next, i));
+            }
+            node.count += next.count;
+            unlinkNode(node, next);
         }
+    }
 
-        Node current = head;
-        for (int i = 0; i < index; i++) {
-            current = current.next;
+    /**
+     * Додає новий порожній вузол у кінець кільця
+     */
+    private void appendNode() {
+        Node node = newNode();
+        if (tail == null) {
+            head = node;
+            link(node, node); // вказуємо на себе (кільце)
+        } else {
+            link(node, head);
+            link(tail, node); // замикаємо кільце
         }
+        tail = node;
+    }
 
-        Byte oldValue = current.data;
-        current.data = element;
-        return oldValue;
+    /**
+     * Додає новий порожній вузол на початок непорожнього кільця
+     */
+    private void prependNode() {
+        Node node = newNode();
+        link(node, head);
+        head = node;
+        link(tail, head); // замикаємо кільце
     }
 
+    /**
+     * Ділить вузол навпіл, переносячи старшу половину цифр у новий вузол після нього
+     */
+    private Node splitNode(Node node) {
+        return splitNodeAt(node, node.count / 2);
+    }
 
-    @Override
-    public void add(int index, Byte element) {
-        if (index < 0 || index > size) {
-            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    /**
+     * Переносить цифри вузла, починаючи з позиції at, у новий вузол після нього
+     */
+    private Node splitNodeAt(Node node, int at) {
+        Node upper = newNode();
+        for (int i = at; i < node.count; i++) {
+            putDigit(upper, i - at, digit(node, i));
+            putDigit(node, i, 0);
         }
-        if (element == null) {
-            throw new NullPointerException("Null elements are not permitted");
+        upper.count = node.count - at;
+        node.count = at;
+
+        link(upper, node.next);
+        link(node, upper);
+        if (node == tail) {
+            tail = upper;
         }
+        return upper;
+    }
 
-        // якщо додаємо на початок списку
-        if (index == 0) {
-            Node newNode = new Node(element);
-            if (isEmpty()) {
-                head = newNode;
-                newNode.next = head; // вказуємо сам на себе
-            } else {
-                Node tail = getTail();
-                newNode.next = head;
-                head = newNode;
-                tail.next = head; // замикаємо кільце
-            }
-            size++;
+    /**
+     * Вилучає вузол з кільця
+     */
+    private void unlinkNode(Node previous, Node node) {
+        if (node == previous) {
+            head = null; // список стає порожнім
+            tail = null;
+            releaseNode(node);
             return;
         }
 
-        // знаходимо елемент перед позицією вставки
-        Node current = head;
-        for (int i = 0; i < index - 1; i++) {
-            current = current.next;
+        link(previous, node.next);
+        if (node == head) {
+            head = node.next;
         }
-
-        // вставляємо новий елемент
-        Node newNode = new Node(element);
-        newNode.next = current.next;
-        current.next = newNode;
-        size++;
+        if (node == tail) {
+            tail = previous;
+        }
+        releaseNode(node);
     }
 
-
-    @Override
-    public Byte remove(int index) {
-        if (index < 0 || index >= size) {
-            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    /**
+     * Повертає порожній вузол: з пулу, якщо він не порожній, інакше новий
+     */
+    private Node newNode() {
+        Node node = freeNodes;
+        if (node == null) {
+            return new Node();
         }
+        freeNodes = node.next;
+        freeCount--;
+        // цифри вузла обнуляються лише тепер: застарілі посилання на
+        // вилучений вузол (наприклад, в ітераторі) бачать його цифри незмінними
+        Arrays.fill(node.words, 0);
+        node.next = null;
+        return node;
+    }
 
-        Byte removedValue;
+    /**
+     * Повертає вилучений з кільця вузол у пул, якщо пул не заповнений
+     */
+    private void releaseNode(Node node) {
+        if (freeCount < nodePoolLimit) {
+            node.count = 0;
+            node.prev = null;
+            node.next = freeNodes;
+            freeNodes = node;
+            freeCount++;
+        }
+    }
 
-        // якщо видаляємо перший елемент
-        if (index == 0) {
-            removedValue = head.data;
-            if (size == 1) {
-                head = null; // список стає порожнім
-            } else {
-                Node tail = getTail();
-                head = head.next;
-                tail.next = head; // підтримуємо кільцеву структуру
+    /**
+     * Повертає у пул вузли ланцюжка від first до last включно, доки пул
+     * не заповниться; решта вузлів залишається збирачу сміття
+     */
+    private void releaseNodes(Node first, Node last) {
+        Node node = first;
+        while (freeCount < nodePoolLimit) {
+            Node next = node.next;
+            releaseNode(node);
+            if (node == last) {
+                return;
             }
-            size--;
-            return removedValue;
+            node = next;
         }
+    }
 
-        // знаходимо елемент перед тим, який треба видалити
-        Node current = head;
-        for (int i = 0; i < index - 1; i++) {
-            current = current.next;
+    /**
+     * Зв'язує вузол a з наступним за ним вузлом b
+     */
+    private void link(Node a, Node b) {
+        a.next = b;
+        if (doublyLinked) {
+            b.prev = a;
         }
-
-        // зберігаємо значення та видаляємо елемент
-        removedValue = current.next.data;
-        current.next = current.next.next;
-        size--;
-
-        return removedValue;
     }
 
-
-    @Override
-    public int indexOf(Object o) {
-        if (isEmpty() || !(o instanceof Byte)) {
-            return -1;
+    /**
+     * Повертає вузол, що передує заданому: у двонаправленому кільці - за O(1),
+     * в однонаправленому - обходом від голови
+     */
+    private Node previousNode(Node node) {
+        if (doublyLinked) {
+            return node.prev;
+        }
+        if (node == head) {
+            return tail;
         }
 
         Node current = head;
-        int index = 0;
-        do {
-            if (current.data.equals(o)) {
-                return index;
-            }
+        while (current.next != node) {
             current = current.next;
-            index++;
-        } while (current != head);
-
-        return -1;
+        }
+        return current;
     }
 
+    /**
+     * Підсписок - представлення діапазону цифр списку без копіювання.
+     * Зміни через підсписок видно у списку і навпаки; після структурної
+     * зміни списку в обхід підсписку його операції кидають
+     * ConcurrentModificationException
+     */
+    private final class SubList extends AbstractList<Byte> {
+        private final SubList parent; // зовнішній підсписок (для вкладених підсписків)
+        private final int offset; // індекс першої цифри у списку
+        private int size;
+        private int expectedModCount;
+
+        // позиція першої цифри, обчислюється при першому доступі
+        private Node startNode;
+        private int startOffset;
+
+        SubList(SubList parent, int offset, int size) {
+            this.parent = parent;
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = NumberListImpl.this.modCount;
+        }
 
-    @Override
-    public int lastIndexOf(Object o) {
-        if (isEmpty() || !(o instanceof Byte)) {
-            return -1;
+        @Override
+        public int size() {
+            checkModification();
+            return size;
         }
 
-        Node current = head;
-        int index = 0;
-        int lastIndex = -1;
+        @Override
+        public Byte get(int index) {
+            checkIndex(index);
+            checkModification();
 
-        do {
-            if (current.data.equals(o)) {
-                lastIndex = index;
+            Node current = start();
+            index += startOffset;
+            while (index >= current.count) {
+                index -= current.count;
+                current = current.next;
             }
-            current = current.next;
-            index++;
-        } while (current != head);
-
-        return lastIndex;
-    }
-
+            return (byte) digit(current, index);
+        }
 
-    @Override
-    public ListIterator<Byte> listIterator() {
-        return new NumberListIterator(0);
-    }
+        @Override
+        public Byte set(int index, Byte element) {
+            checkIndex(index);
+            checkModification();
+            checkDigit(element);
 
+            Node current = start();
+            index += startOffset;
+            while (index >= current.count) {
+                index -= current.count;
+                current = current.next;
+            }
+            byte oldValue = (byte) digit(current, index);
+            putDigit(current, index, element);
+            setCount++;
+            return oldValue;
+        }
 
-    @Override
-    public ListIterator<Byte> listIterator(int index) {
-        if (index < 0 || index > size) {
-            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        @Override
+        public void add(int index, Byte element) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            checkModification();
+            NumberListImpl.this.add(offset + index, element);
+            updateSize(1);
         }
-        return new NumberListIterator(index);
-    }
 
+        @Override
+        public boolean addAll(int index, Collection<? extends Byte> c) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            checkModification();
+            int before = NumberListImpl.this.size;
+            if (!NumberListImpl.this.addAll(offset + index, c)) {
+                return false;
+            }
+            updateSize(NumberListImpl.this.size - before);
+            return true;
+        }
 
-    @Override
-    public List<Byte> subList(int fromIndex, int toIndex) {
-        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
-            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+        @Override
+        public Byte remove(int index) {
+            checkIndex(index);
+            checkModification();
+            Byte removed = NumberListImpl.this.remove(offset + index);
+            updateSize(-1);
+            return removed;
         }
 
-        // створюємо новий список з елементів у заданому діапазоні
-        NumberListImpl subList = new NumberListImpl();
-        subList.currentBase = this.currentBase; // зберігаємо ту саму систему числення
-        for (int i = fromIndex; i < toIndex; i++) {
-            subList.add(get(i));
+        @Override
+        public Iterator<Byte> iterator() {
+            return listIterator();
         }
 
-        return subList;
-    }
+        @Override
+        public ListIterator<Byte> listIterator(int index) {
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            checkModification();
 
+            // ітератор списку, обмежений межами підсписку
+            ListIterator<Byte> it = new NumberListIterator(offset + index);
+            return new ListIterator<Byte>() {
+                @Override
+                public boolean hasNext() {
+                    return nextIndex() < size;
+                }
 
-    @Override
-    public boolean swap(int index1, int index2) {
-        if (index1 < 0 || index1 >= size || index2 < 0 || index2 >= size) {
-            return false;
-        }
+                @Override
+                public Byte next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return it.next();
+                }
 
-        if (index1 == index2) {
-            return true; // якщо індекси однакові, нічого не робимо
-        }
+                @Override
+                public boolean hasPrevious() {
+                    return nextIndex() > 0;
+                }
 
-        // міняємо елементи місцями
-        Byte temp = get(index1);
-        set(index1, get(index2));
-        set(index2, temp);
+                @Override
+                public Byte previous() {
+                    if (!hasPrevious()) {
+                        throw new NoSuchElementException();
+                    }
+                    return it.previous();
+                }
 
-        return true;
-    }
+                @Override
+                public int nextIndex() {
+                    return it.nextIndex() - offset;
+                }
 
+                @Override
+                public int previousIndex() {
+                    return nextIndex() - 1;
+                }
 
-    @Override
-    public void sortAscending() {
-        if (size <= 1) {
-            return;
+                @Override
+                public void remove() {
+                    it.remove();
+                    updateSize(-1);
+                }
+
+                @Override
+                public void set(Byte e) {
+                    it.set(e);
+                }
+
+                @Override
+                public void add(Byte e) {
+                    it.add(e);
+                    updateSize(1);
+                }
+            };
         }
 
-        // сортування бульбашкою (по зростанню)
-        for (int i = 0; i < size - 1; i++) {
-            for (int j = 0; j < size - i - 1; j++) {
-                if (get(j) > get(j + 1)) {
-                    swap(j, j + 1);
+        @Override
+        public List<Byte> subList(int fromIndex, int toIndex) {
+            if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+                throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex + ", Size: " + size);
+            }
+            checkModification();
+            return new SubList(this, offset + fromIndex, toIndex - fromIndex);
+        }
+
+        /**
+         * Повертає вузол з першою цифрою підсписку (startOffset - її позиція у вузлі)
+         */
+        private Node start() {
+            if (startNode == null) {
+                Node current = head;
+                int index = offset;
+                while (index >= current.count) {
+                    index -= current.count;
+                    current = current.next;
                 }
+                startNode = current;
+                startOffset = index;
             }
+            return startNode;
         }
-    }
 
+        /**
+         * Оновлює розмір цього та зовнішніх підсписків після власної структурної зміни
+         */
+        private void updateSize(int delta) {
+            for (SubList list = this; list != null; list = list.parent) {
+                list.size += delta;
+                list.expectedModCount = NumberListImpl.this.modCount;
+                list.startNode = null; // вузли могли бути розділені або об'єднані
+            }
+        }
 
-    @Override
-    public void sortDescending() {
-        if (size <= 1) {
-            return;
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
         }
 
-        // сортування бульбашкою (по спаданню)
-        for (int i = 0; i < size - 1; i++) {
-            for (int j = 0; j < size - i - 1; j++) {
-                if (get(j) < get(j + 1)) {
-                    swap(j, j + 1);
-                }
+        private void checkModification() {
+            if (expectedModCount != NumberListImpl.this.modCount) {
+                throw new ConcurrentModificationException();
             }
         }
     }
 
+    /**
+     * Spliterator для послідовного та паралельного обходу цифр.
+     * Ділення проходить вузлами до середини діапазону, тому поділ
+     * коштує O(кількість вузлів), а не O(кількість цифр)
+     */
+    private final class NumberListSpliterator implements Spliterator<Byte> {
+        private Node current; // вузол з наступною цифрою
+        private int offset; // позиція наступної цифри у вузлі
+        private long remaining; // кількість цифр, що залишились
+        private final int expectedModCount;
+
+        NumberListSpliterator(Node current, int offset, long remaining, int expectedModCount) {
+            this.current = current;
+            this.offset = offset;
+            this.remaining = remaining;
+            this.expectedModCount = expectedModCount;
+        }
 
-    @Override
-    public void shiftLeft() {
-        if (size <= 1) {
-            return;
+        @Override
+        public boolean tryAdvance(Consumer<? super Byte> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (remaining == 0) {
+                return false;
+            }
+            if (offset == current.count) {
+                current = current.next;
+                offset = 0;
+            }
+            remaining--;
+            action.accept((byte) digit(current, offset++));
+            checkModification();
+            return true;
         }
 
-        // циклічний зсув вліво - просто переміщуємо голову на один вузол вперед
-        head = head.next;
-    }
+        @Override
+        public void forEachRemaining(Consumer<? super Byte> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            while (remaining > 0) {
+                if (offset == current.count) {
+                    current = current.next;
+                    offset = 0;
+                }
+                int end = (int) Math.min(current.count, offset + remaining);
+                for (int i = offset; i < end; i++) {
+                    action.accept((byte) digit(current, i));
+                }
+                remaining -= end - offset;
+                offset = end;
+            }
+            checkModification();
+        }
 
+        @Override
+        public Spliterator<Byte> trySplit() {
+            // частини, менші за вузол, не варті окремої задачі
+            if (remaining < 2L * chunkCapacity) {
+                return null;
+            }
 
-    @Override
-    public void shiftRight() {
-        if (size <= 1) {
-            return;
+            // перша половина віддається новому spliterator, ця частина продовжує з середини
+            long half = remaining / 2;
+            Spliterator<Byte> prefix = new NumberListSpliterator(current, offset, half, expectedModCount);
+            long skip = half;
+            while (skip >= current.count - offset) {
+                skip -= current.count - offset;
+                current = current.next;
+                offset = 0;
+            }
+            offset += (int) skip;
+            remaining -= half;
+            return prefix;
         }
 
-        // циклічний зсув вправо - переміщуємо голову на останній елемент
-        head = getTail();
-    }
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
 
-    /**
-     * Допоміжний метод для отримання останнього вузла списку
-     */
-    private Node getTail() {
-        if (isEmpty()) {
-            return null;
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
         }
 
-        // йдемо по списку поки не дійдемо до останнього елемента
-        Node current = head;
-        while (current.next != head) {
-            current = current.next;
+        private void checkModification() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
         }
-        return current;
     }
 
     /**
      * Реалізація ListIterator для обходу списку
      */
     private class NumberListIterator implements ListIterator<Byte> {
-        private Node current;
-        private Node lastReturned;
+        private Node current; // вузол з наступною цифрою
+        private int offset; // позиція наступної цифри у вузлі (може дорівнювати current.count)
+        private Node lastNode;
+        private int lastOffset;
         private int currentIndex;
-        private int expectedSize;
+        private int expectedModCount;
 
         NumberListIterator(int index) {
-            this.currentIndex = index;
-            this.expectedSize = size;
-            this.lastReturned = null;
+            this.expectedModCount = modCount;
+            this.lastNode = null;
+            seek(index);
+        }
+
+        /**
+         * Переходить до позиції index
+         */
+        private void seek(int index) {
+            currentIndex = index;
+            current = head;
+            offset = index;
 
             if (isEmpty()) {
-                current = null;
-            } else if (index == size) {
-                current = null;
-            } else {
-                // переходимо до потрібної позиції
-                current = head;
-                for (int i = 0; i < index; i++) {
-                    current = current.next;
+                return;
+            }
+            if (doublyLinked && index >= size / 2) {
+                // у двонаправленому кільці друга половина досяжна від хвоста
+                current = tail;
+                int start = size - tail.count;
+                while (index <= start && current != head) {
+                    current = current.prev;
+                    start -= current.count;
                 }
+                offset = index - start;
+                return;
+            }
+            // переходимо до потрібної позиції
+            while (offset > current.count) {
+                offset -= current.count;
+                current = current.next;
             }
         }
 
@@ -806,12 +2923,15 @@ public class NumberListImpl implements NumberList {
                 throw new NoSuchElementException();
             }
 
-            lastReturned = current;
-            Byte data = current.data;
-            current = current.next;
+            if (offset == current.count) {
+                current = current.next;
+                offset = 0;
+            }
+            lastNode = current;
+            lastOffset = offset++;
             currentIndex++;
 
-            return data;
+            return (byte) digit(lastNode, lastOffset);
         }
 
         @Override
@@ -826,19 +2946,16 @@ public class NumberListImpl implements NumberList {
                 throw new NoSuchElementException();
             }
 
-            currentIndex--;
             // знаходимо попередній елемент
-            if (currentIndex == 0) {
-                current = head;
-            } else {
-                current = head;
-                for (int i = 0; i < currentIndex; i++) {
-                    current = current.next;
-                }
+            if (offset == 0) {
+                current = previousNode(current);
+                offset = current.count;
             }
-            lastReturned = current;
+            lastNode = current;
+            lastOffset = --offset;
+            currentIndex--;
 
-            return current.data;
+            return (byte) digit(lastNode, lastOffset);
         }
 
         @Override
@@ -854,38 +2971,42 @@ public class NumberListImpl implements NumberList {
         @Override
         public void remove() {
             checkModification();
-            if (lastReturned == null) {
+            if (lastNode == null) {
                 throw new IllegalStateException();
             }
 
-            NumberListImpl.this.remove(currentIndex - 1);
-            currentIndex--;
-            expectedSize--;
-            lastReturned = null;
+            // видаляємо останній повернутий елемент
+            int removedIndex = (lastNode == current && lastOffset == offset) ? currentIndex : currentIndex - 1;
+            NumberListImpl.this.remove(removedIndex);
+            expectedModCount = modCount;
+            lastNode = null;
+            seek(removedIndex);
         }
 
         @Override
         public void set(Byte e) {
             checkModification();
-            if (lastReturned == null) {
+            if (lastNode == null) {
                 throw new IllegalStateException();
             }
+            checkDigit(e);
 
-            lastReturned.data = e;
+            putDigit(lastNode, lastOffset, e);
+            setCount++;
         }
 
         @Override
         public void add(Byte e) {
             checkModification();
             NumberListImpl.this.add(currentIndex, e);
-            currentIndex++;
-            expectedSize++;
-            lastReturned = null;
+            expectedModCount = modCount;
+            lastNode = null;
+            seek(currentIndex + 1);
         }
 
         private void checkModification() {
-            if (expectedSize != size) {
-                throw new java.util.ConcurrentModificationException();
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
             }
         }
     }
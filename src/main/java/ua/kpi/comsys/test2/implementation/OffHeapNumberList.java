@@ -0,0 +1,568 @@
+/*
+ * Copyright (c) 2014, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.function.IntSupplier;
+
+import ua.kpi.comsys.test2.NumberList;
+
+/**
+ * Список цифр, що зберігаються поза купою Java - у суцільному сегменті
+ * нативної пам'яті {@link MemorySegment}. Цифри щільно упаковані у 64-бітні
+ * слова (1 біт на цифру для основи 2, 2 біти для основи 3, 4 біти для
+ * основ 8, 10 та 16), тож у купі знаходиться лише невеликий об'єкт списку
+ * незалежно від кількості цифр. Тимчасові масиви слів {@link Limbs} для
+ * переведення систем числення та ділення, як і в {@link NumberListImpl},
+ * розміщуються в купі.
+ *
+ * Пам'ять звільняється явно та одразу методом {@link #close()} (список
+ * можна використовувати у try-with-resources); після закриття будь-яке
+ * звернення до списку кидає IllegalStateException.
+ *
+ * Список не є потокобезпечним: сегмент виділяється в обмеженій арені
+ * ({@link Arena#ofConfined()}), тож список можна використовувати лише
+ * в потоці, що його створив, - звернення з іншого потоку кидає
+ * WrongThreadException. Зате закриття не потребує узгодження з іншими потоками.
+ *
+ * @author Коваль Богдан Андрійович
+ */
+public class OffHeapNumberList extends AbstractList<Byte> implements NumberList, RandomAccess, AutoCloseable {
+
+    private static final char[] DIGIT_CHARS = "0123456789ABCDEF".toCharArray();
+    private static final long INITIAL_WORDS = 16; // початковий розмір сегмента у словах
+
+    private final int base; // система числення списку
+    private final int slotBits; // кількість бітів на позицію цифри (степінь двійки)
+    private final int slotShift; // log2(slotBits)
+    private final int wordShift; // log2 кількості цифр у слові
+    private final long digitMask; // маска однієї цифри
+
+    private Arena arena; // арена, що володіє сегментом (null після закриття)
+    private MemorySegment segment; // упаковані цифри: цифра i - у слові i / (64 / slotBits)
+    private long capacity; // розмір сегмента у словах
+    private int size;
+
+    /**
+     * Constructs empty <tt>OffHeapNumberList</tt> for binary number.
+     */
+    public OffHeapNumberList() {
+        this(2);
+    }
+
+    /**
+     * Constructs empty <tt>OffHeapNumberList</tt> for number in specified
+     * scale of notation.
+     *
+     * @param radix - scale of notation of the list: 2, 3, 8, 10 or 16.
+     * @throws IllegalArgumentException if radix is not supported.
+     */
+    public OffHeapNumberList(int radix) {
+        if (!NumberListImpl.isSupportedRadix(radix)) {
+            throw new IllegalArgumentException("Unsupported base " + radix);
+        }
+        this.base = radix;
+        int bits = 32 - Integer.numberOfLeadingZeros(radix - 1);
+        // позиції цифр вирівнюються до степеня двійки (3 біти основи 8 - до 4),
+        // щоб індекс слова та зсув обчислювались зсувами
+        this.slotBits = Integer.highestOneBit(bits) == bits ? bits : Integer.highestOneBit(bits) << 1;
+        this.slotShift = Integer.numberOfTrailingZeros(slotBits);
+        this.wordShift = 6 - slotShift;
+        this.digitMask = (1L << slotBits) - 1;
+        allocate(INITIAL_WORDS);
+    }
+
+    /**
+     * Constructs new <tt>OffHeapNumberList</tt> by <b>decimal</b> number
+     * in string notation.
+     *
+     * @param value - number in string notation.
+     */
+    public OffHeapNumberList(String value) {
+        this();
+        if (value == null || value.trim().isEmpty()) {
+            return;
+        }
+        try {
+            DecimalParser parser = new DecimalParser();
+            String decimal = value.trim();
+            for (int i = 0; i < decimal.length(); i++) {
+                parser.accept(decimal.charAt(i));
+            }
+            appendLimbs(parser.finish());
+        } catch (NumberFormatException e) {
+            // як і NumberListImpl, для некоректного числа список залишається порожнім
+        }
+    }
+
+    /**
+     * Створює список з копією цифр source у тій самій системі числення
+     *
+     * @param source - list whose digits are copied.
+     */
+    public OffHeapNumberList(NumberListImpl source) {
+        this(source.radix());
+        ensureCapacity(source.size());
+        for (Byte digit : source) {
+            putDigit(size++, digit);
+        }
+    }
+
+    /**
+     * Виділяє новий сегмент з words слів та переносить у нього цифри;
+     * попередній сегмент звільняється одразу
+     */
+    private void allocate(long words) {
+        Arena newArena = Arena.ofConfined();
+        MemorySegment newSegment = newArena.allocate(words * Long.BYTES, Long.BYTES);
+        long copied = 0;
+        if (segment != null) {
+            copied = wordsFor(size) * Long.BYTES;
+            newSegment.copyFrom(segment.asSlice(0, copied));
+            arena.close();
+        }
+        // незайняті позиції мають бути нульовими
+        newSegment.asSlice(copied).fill((byte) 0);
+        arena = newArena;
+        segment = newSegment;
+        capacity = words;
+    }
+
+    /**
+     * Гарантує місце для count цифр (сегмент росте вдвічі)
+     */
+    private void ensureCapacity(long count) {
+        long words = wordsFor(count);
+        if (words > capacity) {
+            allocate(Math.max(words, capacity * 2));
+        }
+    }
+
+    /**
+     * Кількість слів для count цифр
+     */
+    private long wordsFor(long count) {
+        return (count + (1L << wordShift) - 1) >>> wordShift;
+    }
+
+    /**
+     * Звільняє пам'ять сегмента. Повторний виклик нічого не робить.
+     */
+    @Override
+    public void close() {
+        if (arena != null) {
+            arena.close();
+            arena = null;
+            segment = null;
+            capacity = 0;
+            size = 0;
+        }
+    }
+
+    /**
+     * Returns <tt>true</tt> if the list is not closed yet.
+     *
+     * @return <tt>true</tt> if digits of the list are accessible.
+     */
+    public boolean isOpen() {
+        return arena != null;
+    }
+
+    /**
+     * Returns number of bytes of native memory, reserved by the list.
+     *
+     * @return size of the memory segment in bytes, 0 for closed list.
+     */
+    public long offHeapBytes() {
+        return capacity * Long.BYTES;
+    }
+
+    private void checkOpen() {
+        if (arena == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    private long word(long index) {
+        return segment.getAtIndex(ValueLayout.JAVA_LONG, index);
+    }
+
+    private void setWord(long index, long value) {
+        segment.setAtIndex(ValueLayout.JAVA_LONG, index, value);
+    }
+
+    /**
+     * Зчитує цифру з позиції index
+     */
+    private int digit(long index) {
+        int shift = (int) (index & (1 << wordShift) - 1) << slotShift;
+        return (int) (word(index >>> wordShift) >>> shift & digitMask);
+    }
+
+    /**
+     * Записує цифру в позицію index
+     */
+    private void putDigit(long index, int value) {
+        long w = index >>> wordShift;
+        int shift = (int) (index & (1 << wordShift) - 1) << slotShift;
+        setWord(w, word(w) & ~(digitMask << shift) | (long) value << shift);
+    }
+
+    /**
+     * Перевіряє, що елемент є цифрою системи числення списку
+     */
+    private void checkDigit(Byte digit) {
+        if (digit == null) {
+            throw new NullPointerException("Null elements are not permitted");
+        }
+        if (digit < 0 || digit >= base) {
+            throw new IllegalArgumentException("Digit " + digit + " is out of range for base " + base);
+        }
+    }
+
+    private void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+
+    @Override
+    public int size() {
+        checkOpen();
+        return size;
+    }
+
+    @Override
+    public Byte get(int index) {
+        checkOpen();
+        checkIndex(index, size);
+        return (byte) digit(index);
+    }
+
+    @Override
+    public Byte set(int index, Byte element) {
+        checkOpen();
+        checkIndex(index, size);
+        checkDigit(element);
+        int old = digit(index);
+        putDigit(index, element);
+        return (byte) old;
+    }
+
+    @Override
+    public boolean add(Byte e) {
+        checkOpen();
+        checkDigit(e);
+        appendDigit(e);
+        return true;
+    }
+
+    /**
+     * Додає перевірену цифру в кінець списку
+     */
+    private void appendDigit(int value) {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("List is full");
+        }
+        ensureCapacity(size + 1L);
+        putDigit(size++, value);
+        modCount++;
+    }
+
+    /**
+     * Вставка зсуває наступні цифри на одну позицію цілими словами
+     */
+    @Override
+    public void add(int index, Byte element) {
+        checkOpen();
+        checkIndex(index, size + 1);
+        checkDigit(element);
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("List is full");
+        }
+        ensureCapacity(size + 1L);
+
+        long first = index >>> wordShift;
+        int shift = (index & (1 << wordShift) - 1) << slotShift;
+        for (long w = (long) size >>> wordShift; w > first; w--) {
+            setWord(w, word(w) << slotBits | word(w - 1) >>> (Long.SIZE - slotBits));
+        }
+        long keep = (1L << shift) - 1;
+        long value = word(first);
+        setWord(first, value & keep | (value & ~keep) << slotBits | (long) element << shift);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Видалення зсуває наступні цифри на одну позицію цілими словами
+     */
+    @Override
+    public Byte remove(int index) {
+        checkOpen();
+        checkIndex(index, size);
+        int removed = digit(index);
+
+        long first = index >>> wordShift;
+        long last = (size - 1L) >>> wordShift;
+        int shift = (index & (1 << wordShift) - 1) << slotShift;
+        long keep = (1L << shift) - 1;
+        long value = word(first);
+        value = value & keep | value >>> slotBits & ~keep;
+        for (long w = first; w < last; w++) {
+            long next = word(w + 1);
+            setWord(w, value | next << (Long.SIZE - slotBits));
+            value = next >>> slotBits;
+        }
+        setWord(last, value);
+        size--;
+        modCount++;
+        return (byte) removed;
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        segment.asSlice(0, wordsFor(size) * Long.BYTES).fill((byte) 0);
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public boolean swap(int index1, int index2) {
+        checkOpen();
+        if (index1 < 0 || index1 >= size || index2 < 0 || index2 >= size) {
+            return false;
+        }
+        int temp = digit(index1);
+        putDigit(index1, digit(index2));
+        putDigit(index2, temp);
+        return true;
+    }
+
+    @Override
+    public void sortAscending() {
+        checkOpen();
+        int[] counts = countDigits();
+        long position = 0;
+        for (int value = 0; value < base; value++) {
+            fill(position, position + counts[value], value);
+            position += counts[value];
+        }
+    }
+
+    @Override
+    public void sortDescending() {
+        checkOpen();
+        int[] counts = countDigits();
+        long position = 0;
+        for (int value = base - 1; value >= 0; value--) {
+            fill(position, position + counts[value], value);
+            position += counts[value];
+        }
+    }
+
+    /**
+     * Підраховує кількість кожної цифри (для двійкового списку - по словах)
+     */
+    private int[] countDigits() {
+        int[] counts = new int[base];
+        if (base == 2) {
+            long ones = 0;
+            for (long w = wordsFor(size) - 1; w >= 0; w--) {
+                ones += Long.bitCount(word(w));
+            }
+            counts[1] = (int) ones;
+            counts[0] = size - counts[1];
+            return counts;
+        }
+        for (int i = 0; i < size; i++) {
+            counts[digit(i)]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Записує цифру value у позиції [from, to): цілі слова - одним записом
+     */
+    private void fill(long from, long to, int value) {
+        long pattern = 0;
+        for (int i = 0; i < 1 << wordShift; i++) {
+            pattern = pattern << slotBits | value;
+        }
+        long position = from;
+        for (; position < to && (position & (1 << wordShift) - 1) != 0; position++) {
+            putDigit(position, value);
+        }
+        for (; position + (1 << wordShift) <= to; position += 1 << wordShift) {
+            setWord(position >>> wordShift, pattern);
+        }
+        for (; position < to; position++) {
+            putDigit(position, value);
+        }
+    }
+
+    /**
+     * Циклічний зсув ліворуч: перша цифра переноситься в кінець
+     * (зсув усіх слів сегмента, O(N / цифр у слові))
+     */
+    @Override
+    public void shiftLeft() {
+        if (size() > 1) {
+            add(remove(0));
+        }
+    }
+
+    /**
+     * Циклічний зсув праворуч: остання цифра переноситься на початок
+     */
+    @Override
+    public void shiftRight() {
+        if (size() > 1) {
+            add(0, remove(size - 1));
+        }
+    }
+
+
+    /**
+     * Курсор для читання цифр від старшої до молодшої без упаковування в Byte
+     */
+    private final class DigitCursor implements IntSupplier {
+        long position; // позиція наступної цифри
+
+        @Override
+        public int getAsInt() {
+            return digit(position++);
+        }
+    }
+
+    /**
+     * Повертає значення списку у вигляді масиву 32-бітних слів {@link Limbs}
+     */
+    int[] toLimbs() {
+        checkOpen();
+        return RadixConversion.fromDigits(new DigitCursor(), size, base);
+    }
+
+    /**
+     * Дописує цифри значення mag у системі числення списку, без старших нулів
+     */
+    private void appendLimbs(int[] mag) {
+        if (base == 2) {
+            long bits = Limbs.bitLength(mag);
+            ensureCapacity(size + bits);
+            for (long bit = bits - 1; bit >= 0; bit--) {
+                appendDigit(mag[(int) (bit >>> 5)] >>> (bit & 31) & 1);
+            }
+            return;
+        }
+        RadixConversion.toDigits(mag, base, this::appendDigit);
+    }
+
+    /**
+     * Returns string representation of number, stored in the list
+     * in <b>decimal</b> scale of notation.
+     *
+     * @return string representation in <b>decimal</b> scale.
+     */
+    public String toDecimalString() {
+        int[] mag = toLimbs();
+        if (mag.length == 0) {
+            return "0";
+        }
+        StringBuilder sb = new StringBuilder((int) (size * Math.log10(base)) + 1);
+        RadixConversion.toDigits(mag, 10, digit -> sb.append((char) ('0' + digit)));
+        return sb.toString();
+    }
+
+    /**
+     * Returns new <tt>OffHeapNumberList</tt> which represents the same number
+     * in other scale of notation, defined by personal test assignment
+     * (ternary, as {@link NumberListImpl#changeScale()}).<p>
+     *
+     * Does not impact the original list. The result has to be closed separately.
+     *
+     * @return <tt>OffHeapNumberList</tt> in other scale of notation.
+     */
+    public OffHeapNumberList changeScale() {
+        return changeScale(3);
+    }
+
+    /**
+     * Returns new <tt>OffHeapNumberList</tt> which represents the same number
+     * in specified scale of notation, without leading zeros.<p>
+     *
+     * Does not impact the original list. The result has to be closed separately.
+     *
+     * @param targetBase - scale of notation of the result: 2, 3, 8, 10 or 16.
+     * @return <tt>OffHeapNumberList</tt> in specified scale of notation.
+     * @throws IllegalArgumentException if targetBase is not supported.
+     */
+    public OffHeapNumberList changeScale(int targetBase) {
+        int[] mag = toLimbs();
+        OffHeapNumberList result = new OffHeapNumberList(targetBase);
+        result.appendLimbs(mag);
+        return result;
+    }
+
+    /**
+     * Returns new <tt>OffHeapNumberList</tt> which represents the result of
+     * additional operation, defined by personal test assignment.<p>
+     *
+     * Performs integer division (this / arg). The divisor may be any
+     * <tt>NumberList</tt>, e.g. <tt>NumberListImpl</tt>.<p>
+     *
+     * Does not impact the original list. The result has to be closed separately.
+     *
+     * @param arg - second argument of additional operation (divisor)
+     *
+     * @return result of additional operation (quotient), binary.
+     */
+    public OffHeapNumberList additionalOperation(NumberList arg) {
+        if (arg == null || arg.isEmpty()) {
+            throw new ArithmeticException("Division by zero");
+        }
+        int[] divisor = NumberListImpl.limbsOf(arg);
+        if (divisor.length == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        int[] quotient = LongDivision.divide(toLimbs(), divisor);
+        OffHeapNumberList result = new OffHeapNumberList();
+        result.appendLimbs(quotient);
+        return result;
+    }
+
+    /**
+     * Рівність за контрактом {@link java.util.List#equals(Object)} з іншими
+     * <tt>NumberList</tt>, зокрема з {@link NumberListImpl}
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o == this || o instanceof NumberList && super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(size());
+        for (int i = 0; i < size; i++) {
+            sb.append(DIGIT_CHARS[digit(i)]);
+        }
+        return sb.toString();
+    }
+}
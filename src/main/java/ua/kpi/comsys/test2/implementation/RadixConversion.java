@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2014, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.function.IntSupplier;
+
+/**
+ * Переведення чисел у вигляді масивів слів {@link Limbs} у довільну систему
+ * числення методом "розділяй і володарюй": число ділиться на кешований
+ * степінь основи radix^(g * 2^k), після чого старша та молодша частини
+ * переводяться рекурсивно. Цифри видаються від старшої до молодшої.
+ * Частини незалежні, тому їх можна переводити паралельно у ForkJoinPool.
+ *
+ * @author Коваль Богдан Андрійович
+ */
+final class RadixConversion {
+
+    // розмір числа (у словах), який переводиться простим діленням на слово
+    static final int LEAF_LIMBS = 24;
+
+    // кеш степенів основ: POWERS[radix][k] = radix^(g * 2^k)
+    private static final int[][][] POWERS = new int[17][][];
+
+    private static final byte[] ASCII_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    private RadixConversion() {
+    }
+
+    /**
+     * Кількість цифр системи radix, що вміщуються в одне 32-бітне слово
+     */
+    static int groupDigits(int radix) {
+        int digits = 1;
+        long power = radix;
+        while (power * radix <= Limbs.MASK) {
+            power *= radix;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Повертає значення числа з count цифр системи radix, які видає digits
+     * від старшої до молодшої. Для основ-степенів двійки біти цифр
+     * перегруповуються, для інших основ - схема Горнера групами цифр,
+     * що вміщуються в одне слово.
+     */
+    static int[] fromDigits(IntSupplier digits, int count, int radix) {
+        if (count == 0) {
+            return Limbs.EMPTY;
+        }
+
+        if ((radix & radix - 1) == 0) {
+            int bitsPerDigit = Integer.numberOfTrailingZeros(radix);
+            long bit = (long) count * bitsPerDigit;
+            int[] mag = new int[(int) ((bit + 31) >>> 5)];
+            for (int i = 0; i < count; i++) {
+                bit -= bitsPerDigit;
+                int value = digits.getAsInt();
+                int index = (int) (bit >>> 5);
+                int shift = (int) (bit & 31);
+                mag[index] |= value << shift;
+                if (shift + bitsPerDigit > 32) {
+                    mag[index + 1] |= value >>> (32 - shift);
+                }
+            }
+            return Limbs.trim(mag);
+        }
+
+        int groupDigits = groupDigits(radix);
+        int groupBase = power(radix, 0)[0];
+        int[] mag = new int[(int) (count * (Math.log(radix) / Math.log(2)) / 32) + 2];
+        int length = 0;
+        long group = 0;
+        int groupSize = 0;
+        for (int i = 0; i < count; i++) {
+            group = group * radix + digits.getAsInt();
+            if (++groupSize == groupDigits) {
+                length = Limbs.mulAdd(mag, length, groupBase, (int) group);
+                group = 0;
+                groupSize = 0;
+            }
+        }
+        if (groupSize > 0) {
+            int tailBase = 1;
+            for (int i = 0; i < groupSize; i++) {
+                tailBase *= radix;
+            }
+            length = Limbs.mulAdd(mag, length, tailBase, (int) group);
+        }
+        return Limbs.trim(mag, length);
+    }
+
+    /**
+     * Видає цифри числа mag у системі radix від старшої до молодшої,
+     * без старших нулів. Для нуля не видається жодної цифри.
+     */
+    static void toDigits(int[] mag, int radix, IntConsumer sink) {
+        if (mag.length > 0) {
+            convert(mag, radix, -1, sink);
+        }
+    }
+
+    /**
+     * Рекурсивне переведення; digits - точна кількість цифр з доповненням
+     * нулями зліва, або -1 для старшої частини числа
+     */
+    private static void convert(int[] mag, int radix, long digits, IntConsumer sink) {
+        if (mag.length <= LEAF_LIMBS) {
+            convertLeaf(mag, radix, digits, sink);
+            return;
+        }
+
+        int k = splitLevel(mag, radix);
+        int[][] qr = LongDivision.divideAndRemainder(mag, power(radix, k));
+        long lowDigits = (long) groupDigits(radix) << k;
+        convert(qr[0], radix, digits < 0 ? -1 : digits - lowDigits, sink);
+        convert(qr[1], radix, lowDigits, sink);
+    }
+
+    /**
+     * Вибирає найбільший степінь radix^(g * 2^k), не довший за половину числа
+     */
+    private static int splitLevel(int[] mag, int radix) {
+        int k = 0;
+        while (power(radix, k + 1).length <= (mag.length + 1) / 2) {
+            k++;
+        }
+        return k;
+    }
+
+    /**
+     * Паралельно переводить число mag у систему radix та повертає цифри
+     * у вигляді ASCII символів від старшої до молодшої, без старших нулів
+     * (нуль - один символ '0'). Частини, коротші за threshold цифр,
+     * переводяться послідовно. Результат збігається з {@link #toDigits}.
+     */
+    static byte[] toAscii(int[] mag, int radix, ForkJoinPool pool, int threshold) {
+        // верхня оцінка кількості цифр; зайві старші нулі відкидаються в кінці
+        long bound = (long) (Limbs.bitLength(mag) * Math.log(2) / Math.log(radix)) + 2;
+        if (bound > Integer.MAX_VALUE - 8) {
+            throw new ArithmeticException("Number is too long for a single array");
+        }
+
+        byte[] buffer = new byte[(int) bound];
+        pool.invoke(new ConvertTask(mag, radix, (int) bound, buffer, 0, threshold));
+
+        int first = 0;
+        while (first < buffer.length - 1 && buffer[first] == '0') {
+            first++;
+        }
+        return Arrays.copyOfRange(buffer, first, buffer.length);
+    }
+
+    /**
+     * Задача переведення частини числа у фрагмент буфера з рівно digits цифр
+     */
+    private static final class ConvertTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] mag;
+        private final int radix;
+        private final int digits;
+        private final byte[] buffer;
+        private final int position;
+        private final int threshold;
+
+        ConvertTask(int[] mag, int radix, int digits, byte[] buffer, int position, int threshold) {
+            this.mag = mag;
+            this.radix = radix;
+            this.digits = digits;
+            this.buffer = buffer;
+            this.position = position;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (digits < threshold || mag.length <= LEAF_LIMBS) {
+                int[] next = {position};
+                convert(mag, radix, digits, digit -> buffer[next[0]++] = ASCII_DIGITS[digit]);
+                return;
+            }
+
+            int k = splitLevel(mag, radix);
+            int[][] qr = LongDivision.divideAndRemainder(mag, power(radix, k));
+            int lowDigits = groupDigits(radix) << k;
+            invokeAll(new ConvertTask(qr[0], radix, digits - lowDigits, buffer, position, threshold),
+                    new ConvertTask(qr[1], radix, lowDigits, buffer, position + digits - lowDigits, threshold));
+        }
+    }
+
+    /**
+     * Переведення невеликого числа послідовним діленням на radix^g
+     */
+    private static void convertLeaf(int[] mag, int radix, long digits, IntConsumer sink) {
+        int g = groupDigits(radix);
+        long divisor = power(radix, 0)[0] & Limbs.MASK;
+
+        // групи по g цифр, від молодшої до старшої
+        int[] work = mag.clone();
+        int length = work.length;
+        int[] groups = new int[2 * length + 1];
+        int groupCount = 0;
+        while (length > 0) {
+            long remainder = 0;
+            for (int i = length - 1; i >= 0; i--) {
+                long current = remainder << 32 | (work[i] & Limbs.MASK);
+                work[i] = (int) Long.divideUnsigned(current, divisor);
+                remainder = Long.remainderUnsigned(current, divisor);
+            }
+            groups[groupCount++] = (int) remainder;
+            while (length > 0 && work[length - 1] == 0) {
+                length--;
+            }
+        }
+
+        // кількість значущих цифр старшої групи та всього числа
+        int topDigits = 0;
+        long significant = 0;
+        if (groupCount > 0) {
+            for (long top = groups[groupCount - 1] & Limbs.MASK; top > 0; top /= radix) {
+                topDigits++;
+            }
+            significant = (long) (groupCount - 1) * g + topDigits;
+        }
+
+        // доповнюємо нулями до потрібної кількості цифр
+        for (long i = significant; i < digits; i++) {
+            sink.accept(0);
+        }
+        if (groupCount == 0) {
+            return;
+        }
+
+        emitGroup(groups[groupCount - 1] & Limbs.MASK, radix, topDigits, sink);
+        for (int i = groupCount - 2; i >= 0; i--) {
+            emitGroup(groups[i] & Limbs.MASK, radix, g, sink);
+        }
+    }
+
+    /**
+     * Видає count цифр групи від старшої до молодшої
+     */
+    private static void emitGroup(long group, int radix, int count, IntConsumer sink) {
+        long divisor = 1;
+        for (int i = 1; i < count; i++) {
+            divisor *= radix;
+        }
+        for (int i = 0; i < count; i++) {
+            sink.accept((int) (group / divisor));
+            group %= divisor;
+            divisor /= radix;
+        }
+    }
+
+    /**
+     * Повертає radix^exponent як добуток кешованих степенів
+     */
+    static int[] pow(int radix, long exponent) {
+        int g = groupDigits(radix);
+        int[] result = Limbs.valueOf(1);
+        long groups = exponent / g;
+        for (int k = 0; groups != 0; k++, groups >>>= 1) {
+            if ((groups & 1) != 0) {
+                result = Limbs.multiply(result, power(radix, k));
+            }
+        }
+
+        long rest = 1;
+        for (long i = exponent % g; i > 0; i--) {
+            rest *= radix;
+        }
+        return Limbs.multiply(result, Limbs.valueOf(rest));
+    }
+
+    /**
+     * Повертає кешований степінь radix^(g * 2^k)
+     */
+    static int[] power(int radix, int k) {
+        synchronized (POWERS) {
+            int[][] powers = POWERS[radix];
+            if (powers == null) {
+                long value = 1;
+                for (int i = groupDigits(radix); i > 0; i--) {
+                    value *= radix;
+                }
+                powers = new int[][] {Limbs.valueOf(value)};
+            }
+            if (k >= powers.length) {
+                int[][] grown = Arrays.copyOf(powers, k + 1);
+                for (int i = powers.length; i <= k; i++) {
+                    grown[i] = Limbs.multiply(grown[i - 1], grown[i - 1]);
+                }
+                powers = grown;
+            }
+            POWERS[radix] = powers;
+            return powers[k];
+        }
+    }
+}
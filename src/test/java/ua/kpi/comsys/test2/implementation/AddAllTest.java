@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ua.kpi.comsys.test2.implementation.TestLists.listOf;
+import static ua.kpi.comsys.test2.implementation.TestLists.randomDigits;
+
+public class AddAllTest {
+
+    @Test
+    public void testAddAllAtEveryPosition() {
+        Random random = new Random(18);
+        List<Byte> model = randomDigits(random, 1500);
+        List<Byte> inserted = randomDigits(random, 700);
+        for (int index : new int[] {0, 1, 511, 512, 513, 1024, 1499, 1500}) {
+            NumberListImpl list = listOf(model);
+            List<Byte> expected = new ArrayList<>(model);
+
+            assertTrue(list.addAll(index, inserted));
+            expected.addAll(index, inserted);
+            assertEquals("index " + index, expected, new ArrayList<>(list));
+            assertEquals(expected.size(), list.size());
+
+            // список залишається придатним до подальших змін
+            list.add((byte) 1);
+            list.add(index, (byte) 0);
+            list.remove(list.size() - 2);
+            expected.add((byte) 1);
+            expected.add(index, (byte) 0);
+            expected.remove(expected.size() - 2);
+            assertEquals("index " + index, expected, new ArrayList<>(list));
+        }
+    }
+
+    @Test
+    public void testAddAllNumberList() {
+        Random random = new Random(19);
+        List<Byte> model = randomDigits(random, 1000);
+        NumberListImpl other = listOf(randomDigits(random, 2000));
+        NumberListImpl list = listOf(model);
+        List<Byte> expected = new ArrayList<>(model);
+
+        assertTrue(list.addAll(300, other));
+        expected.addAll(300, new ArrayList<>(other));
+        assertEquals(expected, new ArrayList<>(list));
+
+        // джерело не пов'язане з новими вузлами списку
+        other.set(0, (byte) (1 - other.get(0)));
+        assertEquals(expected, new ArrayList<>(list));
+        list.set(300, (byte) (1 - list.get(300)));
+        assertEquals(list.get(300), other.get(0));
+    }
+
+    @Test
+    public void testAddAllSelf() {
+        NumberListImpl list = new NumberListImpl("227");
+        assertTrue(list.addAll(list));
+        assertEquals("1110001111100011", list.toString());
+        assertTrue(list.addAll(1, list.subList(0, 3)));
+        assertEquals("1111110001111100011", list.toString());
+    }
+
+    @Test
+    public void testAddAllEmpty() {
+        NumberListImpl list = new NumberListImpl("5");
+        assertFalse(list.addAll(Collections.<Byte>emptyList()));
+        assertFalse(list.addAll(1, new NumberListImpl()));
+        assertEquals("101", list.toString());
+
+        NumberListImpl empty = new NumberListImpl();
+        assertTrue(empty.addAll(0, list));
+        assertEquals("101", empty.toString());
+    }
+
+    @Test
+    public void testAddAllInvalidDigitKeepsList() {
+        NumberListImpl list = new NumberListImpl("5");
+        try {
+            list.addAll(1, Arrays.asList((byte) 1, (byte) 2));
+        } catch (IllegalArgumentException e) {
+            assertEquals("101", list.toString());
+            return;
+        }
+        throw new AssertionError("IllegalArgumentException expected");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddAllOutOfBounds() {
+        new NumberListImpl("5").addAll(4, Arrays.asList((byte) 1));
+    }
+
+    @Test
+    public void testAddAllTernary() {
+        NumberListImpl list = new NumberListImpl("227").changeScale();
+        list.addAll(2, Arrays.asList((byte) 2, (byte) 0));
+        assertEquals("2220102", list.toString());
+        list.addAll(new NumberListImpl("8").changeScale());
+        assertEquals("222010222", list.toString());
+    }
+
+    @Test
+    public void testSubListAddAll() {
+        NumberListImpl list = new NumberListImpl("227");
+        List<Byte> view = list.subList(2, 5);
+        assertTrue(view.addAll(1, Arrays.asList((byte) 1, (byte) 1)));
+        assertEquals(5, view.size());
+        assertEquals("1111100011", list.toString());
+        assertTrue(view.addAll(Arrays.asList((byte) 0)));
+        assertEquals("[1, 1, 1, 0, 0, 0]", new ArrayList<>(view).toString());
+        assertEquals("11111000011", list.toString());
+    }
+}
@@ -7,6 +7,9 @@
 
 package ua.kpi.comsys.test2.implementation;
 
+import java.math.BigInteger;
+import java.util.Random;
+
 import org.junit.After;
 import org.junit.Test;
 
@@ -100,6 +103,68 @@ public class AdditionalOperationTest {
         assertEquals("Additional operation implemented in a wrong way",list3,result);
     }
 
+    @Test
+    public void testDivLongNumbers() {
+        assumeTrue(NumberListImpl.getRecordBookNumber() % 7  == 3);
+
+        BigInteger dividend = new BigInteger(20000, new Random(1));
+        BigInteger divisor = new BigInteger(9000, new Random(2));
+        list1 = new NumberListImpl(dividend.toString());
+        list2 = new NumberListImpl(divisor.toString());
+        list3 = new NumberListImpl(dividend.divide(divisor).toString());
+        String dividendDigits = list1.toString();
+        String divisorDigits = list2.toString();
+
+        result = list1.additionalOperation(list2);
+
+        assertNotNull("Result is null while it shouldn't!", result);
+        assertEquals("Additional operation implemented in a wrong way",list3,result);
+        assertEquals("Operand was changed", dividendDigits, list1.toString());
+        assertEquals("Operand was changed", divisorDigits, list2.toString());
+    }
+
+    @Test
+    public void testDivOtherScale() {
+        assumeTrue(NumberListImpl.getRecordBookNumber() % 7  == 3);
+
+        list1 = new NumberListImpl("1212144468782345613").changeScale();
+        list2 = new NumberListImpl("1000");
+        list3 = new NumberListImpl("1212144468782345");
+
+        result = list1.additionalOperation(list2);
+
+        assertNotNull("Result is null while it shouldn't!", result);
+        assertEquals("Additional operation implemented in a wrong way",list3,result);
+    }
+
+    @Test
+    public void testDivLongTernary() {
+        assumeTrue(NumberListImpl.getRecordBookNumber() % 7  == 3);
+
+        // обидва операнди мають понад 40 трійкових цифр
+        BigInteger dividend = new BigInteger(400, new Random(3));
+        BigInteger divisor = new BigInteger(120, new Random(4)).setBit(119);
+        list1 = new NumberListImpl(dividend.toString()).changeScale();
+        list2 = new NumberListImpl(divisor.toString()).changeScale();
+        list3 = new NumberListImpl(dividend.divide(divisor).toString());
+
+        result = list1.additionalOperation(list2);
+
+        assertNotNull("Result is null while it shouldn't!", result);
+        assertEquals("Additional operation implemented in a wrong way",list3,result);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testDivByZero() {
+        assumeTrue(NumberListImpl.getRecordBookNumber() % 7  == 3);
+
+        list1 = new NumberListImpl("15");
+        list2 = new NumberListImpl();
+        list2.add((byte) 0);
+
+        list1.additionalOperation(list2);
+    }
+
     @Test
     public void testMod() {
         assumeTrue(NumberListImpl.getRecordBookNumber() % 7  == 4);
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ArithmeticShiftTest {
+
+    @Test
+    public void testShiftLeft() {
+        Random random = new Random(22);
+        for (int k : new int[] {1, 5, 63, 64, 511, 512, 513, 2000}) {
+            BigInteger value = new BigInteger(1500, random).setBit(1499);
+            NumberListImpl list = new NumberListImpl(value.toString());
+            list.shiftLeftArithmetic(k);
+            assertEquals("k " + k, value.shiftLeft(k).toString(2), list.toString());
+            assertEquals(value.shiftLeft(k).toString(), list.toDecimalString());
+
+            // список залишається придатним до подальших змін
+            list.add((byte) 1);
+            list.remove(list.size() - 2);
+            assertEquals(value.shiftLeft(k).setBit(0).toString(2), list.toString());
+        }
+    }
+
+    @Test
+    public void testShiftRight() {
+        Random random = new Random(23);
+        for (boolean doublyLinked : new boolean[] {false, true}) {
+            for (int k : new int[] {1, 5, 63, 64, 511, 512, 513, 1499}) {
+                BigInteger value = new BigInteger(1500, random).setBit(1499);
+                NumberListImpl list = new NumberListImpl(value.toString());
+                list.setDoublyLinked(doublyLinked);
+                list.shiftRightArithmetic(k);
+                assertEquals("k " + k, value.shiftRight(k).toString(2), list.toString());
+                assertEquals(1500 - k, list.size());
+
+                list.add((byte) 1);
+                list.shiftRight();
+                list.shiftLeft();
+                assertEquals(value.shiftRight(k).shiftLeft(1).setBit(0).toString(2), list.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testShiftRightToZero() {
+        NumberListImpl list = new NumberListImpl("227");
+        list.shiftRightArithmetic(8);
+        assertTrue(list.isEmpty());
+        assertEquals("0", list.toDecimalString());
+
+        list = new NumberListImpl("227");
+        list.shiftRightArithmetic(100);
+        assertTrue(list.isEmpty());
+
+        // лише старші нулі після зсуву - нуль, тобто порожній список
+        list = new NumberListImpl();
+        for (int i = 0; i < 600; i++) {
+            list.add((byte) 0);
+        }
+        list.add((byte) 1);
+        list.shiftRightArithmetic(1);
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testShiftZero() {
+        NumberListImpl list = new NumberListImpl();
+        list.shiftLeftArithmetic(10);
+        assertTrue(list.isEmpty());
+        list.add((byte) 0);
+        list.shiftLeftArithmetic(10);
+        assertTrue(list.isEmpty());
+
+        list = new NumberListImpl("5");
+        list.shiftLeftArithmetic(0);
+        list.shiftRightArithmetic(0);
+        assertEquals("101", list.toString());
+    }
+
+    @Test
+    public void testShiftKeepsLeadingZeros() {
+        NumberListImpl list = new NumberListImpl();
+        for (byte digit : new byte[] {0, 0, 1, 1, 0, 1}) {
+            list.add(digit);
+        }
+        list.shiftLeftArithmetic(3);
+        list.shiftRightArithmetic(4);
+        assertEquals("00110", list.toString());
+    }
+
+    @Test
+    public void testShiftOtherBase() {
+        NumberListImpl list = new NumberListImpl("227").changeScale(16);
+        list.shiftLeftArithmetic(2);
+        assertEquals("E300", list.toString());
+        list.shiftRightArithmetic(3);
+        assertEquals("E", list.toString());
+    }
+
+    @Test
+    public void testShiftInvalidatesCache() {
+        NumberListImpl list = new NumberListImpl("227");
+        assertEquals("227", list.toDecimalString());
+        list.shiftLeftArithmetic(2);
+        assertEquals("908", list.toDecimalString());
+        list.shiftRightArithmetic(3);
+        assertEquals("113", list.toDecimalString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeDistance() {
+        new NumberListImpl("5").shiftLeftArithmetic(-1);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static ua.kpi.comsys.test2.implementation.TestLists.binary;
+
+public class ArithmeticTest {
+
+    @Test
+    public void testAddCarryChain() {
+        // перенос через довгий ланцюжок одиниць
+        assertEquals("100000000", binary("11111111").plus(binary("1")).toString());
+        assertEquals("1000", binary("0001").plus(binary("0111")).toString());
+        assertEquals("", new NumberListImpl().plus(binary("000")).toString());
+    }
+
+    @Test
+    public void testSubtractBorrowChain() {
+        assertEquals("11111111", binary("100000000").minus(binary("1")).toString());
+        assertEquals("1", binary("1000").minus(binary("111")).toString());
+        assertEquals("", binary("101").minus(binary("0101")).toString());
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testNegativeDifference() {
+        binary("101").minus(binary("110"));
+    }
+
+    @Test
+    public void testCompareTo() {
+        assertEquals(0, binary("00101").compareTo(binary("101")));
+        assertEquals(-1, binary("101").compareTo(binary("110")));
+        assertEquals(1, binary("1000").compareTo(binary("111")));
+        assertEquals(0, new NumberListImpl("1000").compareTo(new NumberListImpl("1000").changeScale()));
+        assertEquals(0, new NumberListImpl().compareTo(binary("0")));
+    }
+
+    @Test
+    public void testRandomAgainstBigInteger() {
+        Random random = new Random(14);
+        for (int i = 0; i < 200; i++) {
+            BigInteger x = new BigInteger(random.nextInt(3000) + 1, random);
+            BigInteger y = new BigInteger(random.nextInt(3000) + 1, random);
+            NumberListImpl a = new NumberListImpl(x.toString());
+            NumberListImpl b = new NumberListImpl(y.toString());
+            NumberListImpl ternary = b.changeScale();
+
+            assertEquals(x.add(y).toString(2).replaceFirst("^0$", ""), a.plus(b).toString());
+            assertEquals(x.add(y).toString(3).replaceFirst("^0$", ""), ternary.plus(a).toString());
+            assertEquals(x.compareTo(y), a.compareTo(b));
+            BigInteger max = x.max(y);
+            BigInteger min = x.min(y);
+            assertEquals(max.subtract(min).toString(), new NumberListImpl(max.toString())
+                    .minus(new NumberListImpl(min.toString()).changeScale()).toDecimalString());
+        }
+    }
+
+    @Test
+    public void testOperandsUnchanged() {
+        NumberListImpl a = binary("1011");
+        NumberListImpl b = binary("0111");
+        a.plus(b);
+        a.minus(b);
+        a.compareTo(b);
+        assertEquals("1011", a.toString());
+        assertEquals("0111", b.toString());
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CacheTest {
+
+    private static NumberListImpl list(String decimal) {
+        return new NumberListImpl(decimal);
+    }
+
+    @Test
+    public void testHashCodeFollowsListContract() {
+        NumberListImpl list = list("1234567890123456789");
+        List<Byte> copy = new ArrayList<>(list);
+        assertEquals(copy.hashCode(), list.hashCode());
+        assertEquals(new ArrayList<Byte>().hashCode(), new NumberListImpl().hashCode());
+    }
+
+    @Test
+    public void testHashMapKey() {
+        Map<NumberListImpl, String> map = new HashMap<>();
+        map.put(list("227"), "a");
+        map.put(list("1000000000000"), "b");
+        assertEquals("a", map.get(list("227")));
+        assertEquals("b", map.get(list("1000000000000")));
+        assertEquals(null, map.get(list("228")));
+    }
+
+    @Test
+    public void testHashCodeAfterMutation() {
+        NumberListImpl list = list("227");
+        int before = list.hashCode();
+        list.set(7, (byte) 0);
+        assertNotEquals(before, list.hashCode());
+        assertEquals(new ArrayList<>(list).hashCode(), list.hashCode());
+
+        list.set(7, (byte) 1);
+        assertEquals(before, list.hashCode());
+
+        list.add((byte) 1);
+        assertEquals(new ArrayList<>(list).hashCode(), list.hashCode());
+    }
+
+    @Test
+    public void testDecimalIsMemoized() {
+        NumberListImpl list = list("123456789012345678901234567890");
+        String decimal = list.toDecimalString();
+        assertSame(decimal, list.toDecimalString());
+        assertSame(decimal, list.toDecimalString(ForkJoinPool.commonPool(), 16));
+    }
+
+    @Test
+    public void testDecimalDroppedOnChange() {
+        NumberListImpl list = list("227");
+        assertEquals("227", list.toDecimalString());
+
+        list.add((byte) 0);
+        assertEquals("454", list.toDecimalString());
+
+        list.set(0, (byte) 0);
+        assertEquals("198", list.toDecimalString());
+
+        list.remove(0);
+        assertEquals("198", list.toDecimalString());
+
+        list.shiftLeft();
+        assertEquals(new BigInteger(list.toString(), 2).toString(), list.toDecimalString());
+
+        list.clear();
+        assertEquals("0", list.toDecimalString());
+    }
+
+    @Test
+    public void testDecimalDroppedOnViewChange() {
+        NumberListImpl list = list("227");
+        assertEquals("227", list.toDecimalString());
+
+        List<Byte> view = list.subList(0, 4);
+        view.set(0, (byte) 0);
+        assertEquals("99", list.toDecimalString());
+
+        ListIterator<Byte> it = list.listIterator();
+        it.next();
+        it.next();
+        it.set((byte) 0);
+        assertEquals("35", list.toDecimalString());
+
+        list.swap(2, 7);
+        assertEquals(new BigInteger(list.toString(), 2).toString(), list.toDecimalString());
+    }
+
+    @Test
+    public void testChangeScaleIsIndependentCopy() {
+        NumberListImpl list = list("227");
+        NumberListImpl first = list.changeScale();
+        NumberListImpl second = list.changeScale();
+        assertNotSame(first, second);
+        assertEquals("22102", second.toString());
+
+        first.set(0, (byte) 1);
+        first.add((byte) 2);
+        assertEquals("22102", list.changeScale().toString());
+
+        list.set(0, (byte) 0);
+        assertEquals("10200", list.changeScale().toString());
+    }
+
+    @Test
+    public void testEquals() {
+        NumberListImpl list = list("98765432109876543210");
+        NumberListImpl other = list("98765432109876543210");
+        list.hashCode();
+        other.hashCode();
+        assertEquals(list, other);
+
+        other.set(other.size() - 1, (byte) (1 - other.get(other.size() - 1)));
+        assertFalse(list.equals(other));
+        assertFalse(other.equals(list));
+        assertEquals(list, list.subListCopy(0, list.size()));
+        assertFalse(list.equals(list.subListCopy(1, list.size())));
+
+        NumberListImpl copy = new NumberListImpl();
+        assertTrue(copy.addAll(new ArrayList<>(list)));
+        assertEquals(list.hashCode(), copy.hashCode());
+        assertEquals(list, copy);
+    }
+}
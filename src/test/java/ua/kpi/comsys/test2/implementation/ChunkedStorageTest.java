@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ChunkedStorageTest {
+    static final int DIGITS = 5000; // кілька вузлів-блоків
+
+    NumberListImpl list;
+
+    @After
+    public void tearDown() {
+        if (list != null) {
+            list.clear();
+            list = null;
+        }
+    }
+
+    private static byte pattern(int i) {
+        return (byte) ((i * 7 / 3) % 2);
+    }
+
+    private void fill() {
+        list = new NumberListImpl();
+        for (int i = 0; i < DIGITS; i++) {
+            list.add(pattern(i));
+        }
+    }
+
+    @Test
+    public void testAddAndGet() {
+        fill();
+
+        assertEquals("Wrong size", DIGITS, list.size());
+        for (int i = 0; i < DIGITS; i++) {
+            assertEquals("Wrong digit at " + i, Byte.valueOf(pattern(i)), list.get(i));
+        }
+    }
+
+    @Test
+    public void testInsertAndRemoveInFullNodes() {
+        fill();
+
+        for (int i = 0; i < 100; i++) {
+            list.add(i * 37, (byte) 1);
+        }
+        for (int i = 99; i >= 0; i--) {
+            assertEquals("Wrong removed digit", Byte.valueOf((byte) 1), list.remove(i * 37));
+        }
+
+        assertEquals("Wrong size", DIGITS, list.size());
+        for (int i = 0; i < DIGITS; i++) {
+            assertEquals("Wrong digit at " + i, Byte.valueOf(pattern(i)), list.get(i));
+        }
+    }
+
+    @Test
+    public void testRemoveEverything() {
+        fill();
+
+        while (!list.isEmpty()) {
+            list.remove(list.size() / 2);
+        }
+
+        assertEquals("Wrong size", 0, list.size());
+        assertEquals("Wrong value", "", list.toString());
+
+        list.add((byte) 1);
+        assertEquals("Wrong value", "1", list.toString());
+    }
+
+    @Test
+    public void testShiftsAcrossNodes() {
+        fill();
+        String expected = list.toString();
+
+        for (int i = 0; i < DIGITS; i++) {
+            list.shiftLeft();
+        }
+        assertEquals("Full left rotation must restore the list", expected, list.toString());
+
+        for (int i = 0; i < DIGITS; i++) {
+            list.shiftRight();
+        }
+        assertEquals("Full right rotation must restore the list", expected, list.toString());
+
+        list.shiftLeft();
+        assertEquals("Wrong left shift", expected.substring(1) + expected.charAt(0), list.toString());
+    }
+
+    @Test
+    public void testBytesPerDigit() {
+        fill();
+
+        assertTrue("Binary digits must take less than one byte each", list.bytesPerDigit() < 1.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDigitOutOfRange() {
+        list = new NumberListImpl();
+        list.add((byte) 2);
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentNumberListTest {
+
+    @Test
+    public void testListOperations() {
+        ConcurrentNumberList list = new ConcurrentNumberList(new NumberListImpl("227"));
+        assertEquals("11100011", list.toString());
+        assertEquals("227", list.toDecimalString());
+        assertEquals("22102", list.changeScale().toString());
+        assertEquals(8, list.size());
+        assertEquals(Byte.valueOf((byte) 0), list.get(3));
+        assertTrue(list.contains((byte) 0));
+        assertEquals(3, list.indexOf((byte) 0));
+
+        list.add((byte) 1);
+        assertEquals("455", list.toDecimalString());
+        list.set(0, (byte) 0);
+        assertEquals("199", list.toDecimalString());
+        assertTrue(list.swap(0, 8));
+        assertEquals("111000110", list.toString());
+        list.remove(0);
+        list.shiftRight();
+        assertEquals("01100011", list.toString());
+        list.sortDescending();
+        assertEquals("11110000", list.toString());
+        assertEquals("5", list.additionalOperation(new NumberListImpl("48")).toDecimalString());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        NumberListImpl source = new NumberListImpl("123456789");
+        ConcurrentNumberList list = new ConcurrentNumberList(source);
+        ConcurrentNumberList other = new ConcurrentNumberList(source);
+        assertEquals(list, other);
+        assertEquals(list, source);
+        assertEquals(source, list);
+        assertEquals(source.hashCode(), list.hashCode());
+        assertEquals(new ArrayList<>(source), new ArrayList<>(list));
+
+        other.add((byte) 0);
+        assertFalse(list.equals(other));
+    }
+
+    @Test
+    public void testIteratorIsSnapshot() {
+        ConcurrentNumberList list = new ConcurrentNumberList(new NumberListImpl("5"));
+        Iterator<Byte> it = list.iterator();
+        list.clear();
+
+        StringBuilder digits = new StringBuilder();
+        while (it.hasNext()) {
+            digits.append(it.next());
+        }
+        assertEquals("101", digits.toString());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSubListIsReadOnly() {
+        ConcurrentNumberList list = new ConcurrentNumberList(new NumberListImpl("5"));
+        List<Byte> view = list.subList(0, 2);
+        assertEquals("10", view.toString());
+        view.set(0, (byte) 0);
+    }
+
+    @Test
+    public void testBulkOperations() {
+        ConcurrentNumberList list = new ConcurrentNumberList(new NumberListImpl("227"));
+        assertTrue(list.removeIf(digit -> digit == 0));
+        assertEquals("11111", list.toString());
+        assertFalse(list.removeIf(digit -> digit == 0));
+
+        list.add(2, (byte) 0);
+        list.replaceAll(digit -> (byte) (1 - digit));
+        assertEquals("001000", list.toString());
+
+        list.sort(Collections.reverseOrder());
+        assertEquals("100000", list.toString());
+        list.sort(null);
+        assertEquals("000001", list.toString());
+        assertEquals("1", list.toDecimalString());
+    }
+
+    @Test
+    public void testArgumentKeepsBase() {
+        ConcurrentNumberList ternary = new ConcurrentNumberList(new NumberListImpl("3").changeScale());
+        assertEquals("10", ternary.toString());
+        NumberListImpl two = new NumberListImpl(10);
+        two.add((byte) 2);
+        assertEquals("5", two.plus(ternary).toString());
+        assertEquals("1", ternary.snapshot().changeScale(10).minus(two).toString());
+        assertEquals(-1, two.compareTo(ternary));
+
+        // десяткові цифри понад 1 не можна прочитати як двійкові
+        ConcurrentNumberList decimal = new ConcurrentNumberList(new NumberListImpl("25").changeScale(10));
+        assertEquals("100", new NumberListImpl("4").multiply(decimal).toDecimalString());
+        NumberListImpl dividend = new NumberListImpl("1000");
+        assertEquals(dividend.additionalOperation(new NumberListImpl("25")),
+                dividend.additionalOperation(decimal));
+    }
+
+    @Test
+    public void testSourceIsCopied() {
+        NumberListImpl source = new NumberListImpl("5");
+        ConcurrentNumberList list = new ConcurrentNumberList(source);
+        source.clear();
+        assertEquals("101", list.toString());
+    }
+
+    @Test
+    public void testConcurrentReadersAndWriters() throws Exception {
+        // старша цифра завжди 1, тому значення лежить між 2^999 та 2^1000 - 1
+        int digits = 1000;
+        NumberListImpl initial = new NumberListImpl();
+        initial.add((byte) 1);
+        for (int i = 1; i < digits; i++) {
+            initial.add((byte) (i % 2));
+        }
+        ConcurrentNumberList list = new ConcurrentNumberList(initial);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean stop = new AtomicBoolean();
+        CountDownLatch started = new CountDownLatch(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(executor.submit(() -> {
+                    started.countDown();
+                    while (!stop.get()) {
+                        assertEquals(digits, list.size());
+                        assertEquals(Byte.valueOf((byte) 1), list.get(0));
+                        byte last = list.get(digits - 1);
+                        assertTrue(last == 0 || last == 1);
+                        assertEquals(digits, new BigInteger(list.toDecimalString()).bitLength());
+
+                        NumberListImpl snapshot = list.snapshot();
+                        assertEquals(new BigInteger(snapshot.toString(), 2).toString(), snapshot.toDecimalString());
+                    }
+                    return null;
+                }));
+            }
+            Future<?> writer = executor.submit(() -> {
+                started.countDown();
+                Random random = new Random(16);
+                for (int round = 0; round < 20000; round++) {
+                    int index = 1 + random.nextInt(digits - 1);
+                    if (round % 3 == 0) {
+                        list.swap(index, 1 + random.nextInt(digits - 1));
+                    } else {
+                        list.set(index, (byte) random.nextInt(2));
+                    }
+                }
+                return null;
+            });
+
+            started.await();
+            writer.get(60, TimeUnit.SECONDS);
+            stop.set(true);
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            stop.set(true);
+            executor.shutdownNow();
+        }
+        assertEquals(new BigInteger(list.toString(), 2).toString(), list.toDecimalString());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ua.kpi.comsys.test2.implementation.TestLists.randomList;
+
+public class DoublyLinkedTest {
+
+    private static final Consumer<NumberListImpl> DOUBLY_LINKED = list -> list.setDoublyLinked(true);
+
+    @Test
+    public void testReverseIteration() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(25), 5000, model, DOUBLY_LINKED);
+        assertTrue(list.isDoublyLinked());
+
+        List<Byte> reversed = new ArrayList<>();
+        for (ListIterator<Byte> it = list.listIterator(list.size()); it.hasPrevious(); ) {
+            reversed.add(it.previous());
+        }
+        Collections.reverse(reversed);
+        assertEquals(model, reversed);
+    }
+
+    @Test
+    public void testIteratorFromSecondHalf() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(26), 2000, model, DOUBLY_LINKED);
+        for (int index : new int[] {1000, 1023, 1024, 1025, 1536, 1999, 2000}) {
+            ListIterator<Byte> it = list.listIterator(index);
+            ListIterator<Byte> modelIt = model.listIterator(index);
+            for (int i = 0; i < 3 && modelIt.hasPrevious(); i++) {
+                assertEquals(modelIt.previous(), it.previous());
+            }
+            for (int i = 0; i < 6 && modelIt.hasNext(); i++) {
+                assertEquals(modelIt.next(), it.next());
+            }
+            assertEquals(modelIt.nextIndex(), it.nextIndex());
+        }
+    }
+
+    @Test
+    public void testRemoveFromEnd() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(27), 3000, model, DOUBLY_LINKED);
+        while (!model.isEmpty()) {
+            assertEquals(model.remove(model.size() - 1), list.remove(list.size() - 1));
+            if (model.size() % 500 == 0) {
+                assertEquals(model, new ArrayList<>(list));
+            }
+        }
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testMutations() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(28), 3000, model, DOUBLY_LINKED);
+
+        list.remove(2500);
+        model.remove(2500);
+        list.add(1700, (byte) 1);
+        model.add(1700, (byte) 1);
+        list.addAll(600, new ArrayList<>(model.subList(0, 900)));
+        model.addAll(600, new ArrayList<>(model.subList(0, 900)));
+        list.removeAll(Collections.singleton((byte) 0));
+        model.removeAll(Collections.singleton((byte) 0));
+        list.add(0, (byte) 0);
+        model.add(0, (byte) 0);
+        for (int i = 0; i < 10; i++) {
+            list.shiftRight();
+            model.add(0, model.remove(model.size() - 1));
+        }
+        assertEquals(model, new ArrayList<>(list));
+
+        List<Byte> reversed = new ArrayList<>();
+        for (ListIterator<Byte> it = list.listIterator(list.size()); it.hasPrevious(); ) {
+            reversed.add(it.previous());
+        }
+        Collections.reverse(reversed);
+        assertEquals(model, reversed);
+    }
+
+    @Test
+    public void testSwitchModes() {
+        NumberListImpl list = new NumberListImpl("123456789012345678901234567890");
+        assertFalse(list.isDoublyLinked());
+        String digits = list.toString();
+
+        list.setDoublyLinked(true);
+        assertEquals(digits, list.toString());
+        list.remove(list.size() - 1);
+        list.setDoublyLinked(false);
+        list.add((byte) (digits.charAt(digits.length() - 1) - '0'));
+        assertEquals(digits, list.toString());
+        assertEquals("123456789012345678901234567890", list.toDecimalString());
+    }
+
+    @Test
+    public void testNewListsAreSinglyLinked() {
+        NumberListImpl list = new NumberListImpl("227");
+        list.setDoublyLinked(true);
+        NumberListImpl copy = list.changeScale();
+        assertFalse(copy.isDoublyLinked());
+
+        NumberListImpl other = new NumberListImpl();
+        other.setDoublyLinked(true);
+        other.addAll(list);
+        ListIterator<Byte> it = other.listIterator(other.size());
+        assertEquals(Byte.valueOf((byte) 1), it.previous());
+        assertEquals("11100011", other.toString());
+    }
+}
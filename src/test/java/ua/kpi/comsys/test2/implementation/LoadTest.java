@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LoadTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File write(String content) throws IOException {
+        File file = folder.newFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.US_ASCII));
+        return file;
+    }
+
+    @Test
+    public void testLoadBigNumber() throws IOException {
+        File file = new File(FileListTest.FILE_BIG);
+        NumberListImpl list = NumberListImpl.load(file);
+        assertEquals(new NumberListImpl(file).toString(), list.toString());
+    }
+
+    @Test
+    public void testLoadLongNumber() throws IOException {
+        // кілька повних блоків розбору та неповний останній блок
+        StringBuilder digits = new StringBuilder("9");
+        Random random = new Random(6);
+        for (int i = 0; i < 3 * DecimalParser.CHUNK_DIGITS + 12345; i++) {
+            digits.append((char) ('0' + random.nextInt(10)));
+        }
+        NumberListImpl list = NumberListImpl.load(write(digits + "\n"));
+        assertEquals(new BigInteger(digits.toString()).toString(2), list.toString());
+    }
+
+    @Test
+    public void testLoadWhitespaceAndSign() throws IOException {
+        assertEquals("11100011", NumberListImpl.load(write("  +227\r\n")).toString());
+        assertEquals("", NumberListImpl.load(write(" \n")).toString());
+        assertEquals("", NumberListImpl.load(write("000")).toString());
+    }
+
+    @Test(expected = NoSuchFileException.class)
+    public void testLoadMissingFile() throws IOException {
+        NumberListImpl.load(new File(folder.getRoot(), "missing.txt"));
+    }
+
+    @Test
+    public void testLoadInvalidCharacter() throws IOException {
+        try {
+            NumberListImpl.load(write("12a4"));
+        } catch (NumberFormatException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("'a' at position 2"));
+            return;
+        }
+        throw new AssertionError("NumberFormatException expected");
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testLoadNegative() throws IOException {
+        NumberListImpl.load(write("-4"));
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void testLoadTwoNumbers() throws IOException {
+        NumberListImpl.load(write("12 34"));
+    }
+
+    @Test
+    public void testConstructorKeepsEmptyOnError() throws IOException {
+        assertEquals(0, new NumberListImpl(write("12a4")).size());
+        assertEquals(0, new NumberListImpl(new File(folder.getRoot(), "missing.txt")).size());
+    }
+}
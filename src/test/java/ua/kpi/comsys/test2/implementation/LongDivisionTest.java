@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LongDivisionTest {
+
+    static int[] limbs(BigInteger value) {
+        int[] mag = new int[(value.bitLength() + 31) / 32];
+        for (int i = 0; i < mag.length; i++) {
+            mag[i] = value.shiftRight(32 * i).intValue();
+        }
+        return mag;
+    }
+
+    static BigInteger value(int[] mag) {
+        BigInteger result = BigInteger.ZERO;
+        for (int i = mag.length - 1; i >= 0; i--) {
+            result = result.shiftLeft(32).or(BigInteger.valueOf(mag[i] & 0xFFFFFFFFL));
+        }
+        return result;
+    }
+
+    private static void check(BigInteger a, BigInteger b) {
+        int[][] qr = LongDivision.divideAndRemainder(limbs(a), limbs(b));
+        BigInteger[] expected = a.divideAndRemainder(b);
+
+        assertEquals("Wrong quotient of " + a + " / " + b, expected[0], value(qr[0]));
+        assertEquals("Wrong remainder of " + a + " / " + b, expected[1], value(qr[1]));
+    }
+
+    @Test
+    public void testSmallOperands() {
+        Random random = new Random(3);
+        for (int i = 0; i < 2000; i++) {
+            BigInteger a = new BigInteger(1 + random.nextInt(300), random);
+            BigInteger b = new BigInteger(1 + random.nextInt(200), random).add(BigInteger.ONE);
+            check(a, b);
+        }
+    }
+
+    @Test
+    public void testCorrectionSteps() {
+        BigInteger ones = BigInteger.ONE.shiftLeft(640).subtract(BigInteger.ONE);
+        BigInteger power = BigInteger.ONE.shiftLeft(319);
+
+        check(ones, power);
+        check(ones, power.add(BigInteger.ONE));
+        check(ones, power.subtract(BigInteger.ONE));
+        check(power.shiftLeft(200), power.subtract(BigInteger.ONE));
+        check(ones, ones);
+        check(ones.subtract(BigInteger.ONE), ones);
+    }
+
+    @Test
+    public void testBurnikelZiegler() {
+        Random random = new Random(7);
+        for (int i = 0; i < 40; i++) {
+            int divisorBits = 32 * LongDivision.BURNIKEL_ZIEGLER_THRESHOLD + random.nextInt(20000);
+            int dividendBits = divisorBits + 32 * LongDivision.BURNIKEL_ZIEGLER_OFFSET + random.nextInt(40000);
+            BigInteger a = new BigInteger(dividendBits, random);
+            BigInteger b = new BigInteger(divisorBits, random).setBit(divisorBits - 1);
+            check(a, b);
+        }
+    }
+
+    @Test
+    public void testBurnikelZieglerExtremeDigits() {
+        BigInteger b = BigInteger.ONE.shiftLeft(32 * 200).subtract(BigInteger.ONE);
+        BigInteger a = BigInteger.ONE.shiftLeft(32 * 700).subtract(BigInteger.ONE);
+
+        check(a, b);
+        check(a, BigInteger.ONE.shiftLeft(32 * 200 - 1));
+        check(a, BigInteger.ONE.shiftLeft(32 * 200 - 1).add(BigInteger.ONE));
+        check(b.multiply(b).multiply(b), b);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testDivisionByZero() {
+        LongDivision.divide(limbs(BigInteger.TEN), Limbs.EMPTY);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MultiplyTest {
+
+    private static void assertProduct(BigInteger x, BigInteger y) {
+        int[] product = Limbs.multiply(LongDivisionTest.limbs(x), LongDivisionTest.limbs(y));
+        assertEquals(x.multiply(y), LongDivisionTest.value(product));
+    }
+
+    @Test
+    public void testSmallNumbers() {
+        assertEquals("11110", new NumberListImpl("5").multiply(new NumberListImpl("6")).toString());
+        assertEquals("", new NumberListImpl("5").multiply(new NumberListImpl()).toString());
+    }
+
+    @Test
+    public void testEachAlgorithm() {
+        Random random = new Random(15);
+        // "в стовпчик", Карацуба, Toom-3 та множники різної довжини
+        int[][] sizes = {{10, 20}, {60, 70}, {300, 260}, {900, 1000}, {3000, 200}};
+        for (int[] size : sizes) {
+            BigInteger x = new BigInteger(32 * size[0], random);
+            BigInteger y = new BigInteger(32 * size[1], random);
+            assertProduct(x, y);
+            assertProduct(BigInteger.ONE.shiftLeft(32 * size[0]).subtract(BigInteger.ONE),
+                    BigInteger.ONE.shiftLeft(32 * size[1]).subtract(BigInteger.ONE));
+        }
+    }
+
+    @Test
+    public void testToomCook3Directly() {
+        Random random = new Random(16);
+        for (int limbs : new int[] {1, 2, 3, 7, 100, 500}) {
+            BigInteger x = new BigInteger(32 * limbs, random);
+            BigInteger y = new BigInteger(32 * limbs - 5, random);
+            int[] product = Limbs.multiplyToomCook3(LongDivisionTest.limbs(x), LongDivisionTest.limbs(y));
+            assertEquals(x.multiply(y), LongDivisionTest.value(product));
+        }
+    }
+
+    @Test
+    public void testOtherScale() {
+        BigInteger x = new BigInteger(20_000, new Random(17));
+        BigInteger y = new BigInteger(15_000, new Random(18));
+        NumberListImpl ternary = new NumberListImpl(x.toString()).changeScale();
+        NumberListImpl product = ternary.multiply(new NumberListImpl(y.toString()));
+        assertEquals(x.multiply(y).toString(3), product.toString());
+        assertEquals(x.toString(3), ternary.toString());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static ua.kpi.comsys.test2.implementation.TestLists.randomList;
+
+public class NodePoolTest {
+
+    private static final Consumer<NumberListImpl> POOLED = list -> list.setNodePoolLimit(16);
+
+    @Test
+    public void testDisabledByDefault() {
+        NumberListImpl list = new NumberListImpl("123456789012345678901234567890");
+        assertEquals(0, list.getNodePoolLimit());
+        list.clear();
+        assertEquals(0, list.pooledNodes());
+    }
+
+    @Test
+    public void testClearAndRebuild() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(24), 5000, model, POOLED);
+        list.clear();
+        assertEquals(10, list.pooledNodes());
+
+        // повторно використані вузли не містять старих цифр
+        for (int i = 0; i < 700; i++) {
+            list.add((byte) 0);
+        }
+        list.add((byte) 1);
+        assertEquals(8, list.pooledNodes());
+        assertEquals("1", list.toDecimalString());
+        list.shiftLeftArithmetic(1);
+        assertEquals("2", list.toDecimalString());
+    }
+
+    @Test
+    public void testLimit() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(25), 20000, model, POOLED);
+        list.clear();
+        assertEquals(16, list.pooledNodes());
+
+        list.setNodePoolLimit(4);
+        assertEquals(4, list.pooledNodes());
+        list.setNodePoolLimit(0);
+        assertEquals(0, list.pooledNodes());
+    }
+
+    @Test
+    public void testTruncateAndExtend() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(26), 3000, model, POOLED);
+        String digits = list.toString();
+        list.add(0, (byte) 1);
+        for (int i = 0; i < 50; i++) {
+            list.shiftRightArithmetic(2000);
+            assertTrue(list.pooledNodes() > 0);
+            list.shiftLeftArithmetic(2000);
+        }
+        list.shiftRightArithmetic(2000);
+        assertEquals("1" + digits.substring(0, 1000), list.toString());
+        assertTrue(list.pooledNodes() <= 16);
+    }
+
+    @Test
+    public void testRemovals() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(27), 4000, model, POOLED);
+        Random random = new Random(28);
+        for (int i = 0; i < 3000; i++) {
+            int index = random.nextInt(model.size());
+            if (random.nextBoolean()) {
+                byte digit = (byte) random.nextInt(2);
+                list.add(index, digit);
+                model.add(index, digit);
+            } else {
+                assertEquals(model.remove(index), list.remove(index));
+            }
+        }
+        assertEquals(model, new ArrayList<>(list));
+
+        list.removeAll(Collections.singleton((byte) 0));
+        model.removeAll(Collections.singleton((byte) 0));
+        assertEquals(model, new ArrayList<>(list));
+
+        for (Iterator<Byte> it = list.iterator(); it.hasNext(); ) {
+            it.next();
+            it.remove();
+        }
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 1500; i++) {
+            list.add((byte) 1);
+        }
+        assertEquals(1500, list.size());
+        assertTrue(list.toString().matches("1{1500}"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeLimit() {
+        new NumberListImpl().setNodePoolLimit(-1);
+    }
+}
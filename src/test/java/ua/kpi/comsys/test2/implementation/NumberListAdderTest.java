@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class NumberListAdderTest {
+
+    @Test
+    public void testEmpty() {
+        NumberListAdder adder = new NumberListAdder();
+        assertEquals("", adder.sum().toString());
+        assertEquals("0", adder.toString());
+    }
+
+    @Test
+    public void testIncrementCarry() {
+        NumberListAdder adder = new NumberListAdder();
+        adder.add(new NumberListImpl("4294967295")); // 2^32 - 1
+        adder.increment();
+        assertEquals("4294967296", adder.toString());
+
+        adder.add(new NumberListImpl("340282366920938463463374607427473244159")); // 2^128 - 2^32 - 1
+        adder.increment();
+        assertEquals(BigInteger.ONE.shiftLeft(128).toString(), adder.toString());
+    }
+
+    @Test
+    public void testAddLongNumbers() {
+        NumberListAdder adder = new NumberListAdder();
+        Random random = new Random(17);
+        BigInteger expected = BigInteger.ZERO;
+        for (int i = 0; i < 200; i++) {
+            BigInteger value = new BigInteger(1 + random.nextInt(3000), random);
+            expected = expected.add(value);
+            adder.add(new NumberListImpl(value.toString()));
+            if (i % 7 == 0) {
+                adder.increment();
+                expected = expected.add(BigInteger.ONE);
+            }
+        }
+        assertEquals(expected.toString(2), adder.sum().toString());
+    }
+
+    @Test
+    public void testAddTernary() {
+        NumberListAdder adder = new NumberListAdder();
+        adder.add(new NumberListImpl("227").changeScale());
+        adder.add(new NumberListImpl("100"));
+        assertEquals("327", adder.toString());
+    }
+
+    @Test
+    public void testReset() {
+        NumberListAdder adder = new NumberListAdder();
+        adder.add(new NumberListImpl("123456789012345678901234567890"));
+        adder.reset();
+        adder.increment();
+        assertEquals("1", adder.toString());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        new NumberListAdder().add(null);
+    }
+
+    @Test
+    public void testConcurrentUpdates() throws Exception {
+        NumberListAdder adder = new NumberListAdder();
+        NumberListImpl value = new NumberListImpl("18446744073709551615"); // 2^64 - 1
+        int threads = 16;
+        int updates = 5000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    for (int i = 0; i < updates; i++) {
+                        adder.increment();
+                        adder.add(value);
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        BigInteger count = BigInteger.valueOf((long) threads * updates);
+        BigInteger expected = count.multiply(new BigInteger(value.toDecimalString()).add(BigInteger.ONE));
+        assertEquals(expected.toString(), adder.toString());
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapNumberListTest {
+
+    @Test
+    public void testDecimalString() {
+        Random random = new Random(25);
+        for (int bits : new int[] {1, 63, 64, 65, 1000, 5000}) {
+            BigInteger value = new BigInteger(bits, random).setBit(bits - 1);
+            try (OffHeapNumberList list = new OffHeapNumberList(value.toString())) {
+                assertEquals(value.toString(2), list.toString());
+                assertEquals(value.toString(), list.toDecimalString());
+            }
+        }
+        try (OffHeapNumberList list = new OffHeapNumberList("0")) {
+            assertTrue(list.isEmpty());
+            assertEquals("0", list.toDecimalString());
+        }
+        try (OffHeapNumberList list = new OffHeapNumberList("-5")) {
+            assertTrue(list.isEmpty());
+        }
+    }
+
+    @Test
+    public void testEqualsNumberListImpl() {
+        NumberListImpl heap = new NumberListImpl("123456789012345678901234567890");
+        try (OffHeapNumberList offHeap = new OffHeapNumberList("123456789012345678901234567890")) {
+            assertTrue(offHeap.equals(heap));
+            assertTrue(heap.equals(offHeap));
+            assertEquals(heap.hashCode(), offHeap.hashCode());
+
+            offHeap.set(0, (byte) 0);
+            assertFalse(offHeap.equals(heap));
+            assertFalse(heap.equals(offHeap));
+            assertFalse(offHeap.equals(new ArrayList<>(offHeap)));
+        }
+    }
+
+    @Test
+    public void testCopyOfNumberListImpl() {
+        for (int base : new int[] {2, 3, 8, 10, 16}) {
+            NumberListImpl heap = new NumberListImpl("98765432109876543210987654321").changeScale(base);
+            try (OffHeapNumberList offHeap = new OffHeapNumberList(heap)) {
+                assertEquals(heap, offHeap);
+                assertEquals(heap.toString(), offHeap.toString());
+                assertEquals("98765432109876543210987654321", offHeap.toDecimalString());
+            }
+        }
+    }
+
+    @Test
+    public void testChangeScale() {
+        BigInteger value = new BigInteger(2000, new Random(26));
+        NumberListImpl heap = new NumberListImpl(value.toString());
+        try (OffHeapNumberList offHeap = new OffHeapNumberList(value.toString())) {
+            try (OffHeapNumberList ternary = offHeap.changeScale()) {
+                assertEquals(value.toString(3), ternary.toString());
+                assertEquals(heap.changeScale(), ternary);
+                assertEquals(ternary, heap.changeScale());
+            }
+            for (int base : new int[] {2, 3, 8, 10, 16}) {
+                try (OffHeapNumberList converted = offHeap.changeScale(base)) {
+                    assertEquals(value.toString(base).toUpperCase(), converted.toString());
+                    assertEquals(heap.changeScale(base), converted);
+
+                    // зворотне переведення з будь-якої основи
+                    try (OffHeapNumberList binary = converted.changeScale(2)) {
+                        assertEquals(offHeap, binary);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAdditionalOperation() {
+        Random random = new Random(27);
+        BigInteger dividend = new BigInteger(3000, random);
+        BigInteger divisor = new BigInteger(700, random).setBit(699);
+        NumberListImpl heapDividend = new NumberListImpl(dividend.toString());
+        NumberListImpl heapDivisor = new NumberListImpl(divisor.toString());
+        try (OffHeapNumberList offDividend = new OffHeapNumberList(dividend.toString());
+             OffHeapNumberList offDivisor = new OffHeapNumberList(divisor.toString());
+             OffHeapNumberList quotient1 = offDividend.additionalOperation(offDivisor);
+             OffHeapNumberList quotient2 = offDividend.additionalOperation(heapDivisor)) {
+            String expected = dividend.divide(divisor).toString();
+            assertEquals(expected, quotient1.toDecimalString());
+            assertEquals(expected, quotient2.toDecimalString());
+            assertEquals(heapDividend.additionalOperation(heapDivisor), quotient1);
+            assertEquals(expected, heapDividend.additionalOperation(offDivisor).toDecimalString());
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testDivisionByZero() {
+        try (OffHeapNumberList list = new OffHeapNumberList("5")) {
+            list.additionalOperation(new NumberListImpl());
+        }
+    }
+
+    @Test
+    public void testListOperations() {
+        for (int base : new int[] {2, 3, 8, 10, 16}) {
+            Random random = new Random(28 + base);
+            List<Byte> model = new ArrayList<>();
+            try (OffHeapNumberList list = new OffHeapNumberList(base)) {
+                for (int i = 0; i < 4000; i++) {
+                    int op = random.nextInt(10);
+                    byte digit = (byte) random.nextInt(base);
+                    if (op < 4 || model.isEmpty()) {
+                        list.add(digit);
+                        model.add(digit);
+                    } else if (op < 6) {
+                        int index = random.nextInt(model.size() + 1);
+                        list.add(index, digit);
+                        model.add(index, digit);
+                    } else if (op < 8) {
+                        int index = random.nextInt(model.size());
+                        assertEquals(model.remove(index), list.remove(index));
+                    } else if (op < 9) {
+                        int index = random.nextInt(model.size());
+                        assertEquals(model.set(index, digit), list.set(index, digit));
+                    } else {
+                        int index1 = random.nextInt(model.size());
+                        int index2 = random.nextInt(model.size());
+                        assertTrue(list.swap(index1, index2));
+                        Collections.swap(model, index1, index2);
+                    }
+                }
+                assertEquals("base " + base, model, new ArrayList<>(list));
+
+                list.shiftLeft();
+                Collections.rotate(model, -1);
+                list.shiftRight();
+                list.shiftRight();
+                Collections.rotate(model, 2);
+                assertEquals(model, new ArrayList<>(list));
+
+                list.sortAscending();
+                Collections.sort(model);
+                assertEquals(model, new ArrayList<>(list));
+                list.sortDescending();
+                Collections.sort(model, Collections.reverseOrder());
+                assertEquals(model, new ArrayList<>(list));
+
+                list.clear();
+                assertTrue(list.isEmpty());
+                list.add((byte) 1);
+                assertEquals("1", list.toString());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDigitOutOfRange() {
+        try (OffHeapNumberList list = new OffHeapNumberList(8)) {
+            list.add((byte) 8);
+        }
+    }
+
+    @Test
+    public void testSwapOutOfRange() {
+        try (OffHeapNumberList list = new OffHeapNumberList("5")) {
+            assertFalse(list.swap(0, 3));
+        }
+    }
+
+    @Test
+    public void testClose() {
+        OffHeapNumberList list = new OffHeapNumberList("123456789");
+        assertTrue(list.isOpen());
+        assertTrue(list.offHeapBytes() > 0);
+        list.close();
+        assertFalse(list.isOpen());
+        assertEquals(0, list.offHeapBytes());
+        list.close();
+        try {
+            list.size();
+            throw new AssertionError("closed list is accessible");
+        } catch (IllegalStateException e) {
+            // очікувано
+        }
+        try {
+            list.add((byte) 1);
+            throw new AssertionError("closed list is accessible");
+        } catch (IllegalStateException e) {
+            // очікувано
+        }
+    }
+
+    @Test
+    public void testConfinedToOwnerThread() throws InterruptedException {
+        try (OffHeapNumberList list = new OffHeapNumberList("123456789")) {
+            Throwable[] failure = new Throwable[1];
+            Thread thread = new Thread(() -> {
+                try {
+                    list.get(0);
+                } catch (Throwable e) {
+                    failure[0] = e;
+                }
+            });
+            thread.start();
+            thread.join();
+            assertTrue(failure[0] instanceof WrongThreadException);
+            assertEquals("123456789", list.toDecimalString());
+        }
+    }
+
+    @Test
+    public void testGrowth() {
+        try (OffHeapNumberList list = new OffHeapNumberList()) {
+            long initial = list.offHeapBytes();
+            for (int i = 0; i < 100000; i++) {
+                list.add((byte) (i & 1));
+            }
+            assertEquals(100000, list.size());
+            assertTrue(list.offHeapBytes() > initial);
+            assertTrue(list.offHeapBytes() <= 2 * 100000 / Byte.SIZE + initial);
+            assertEquals(1, (byte) list.get(99999));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedBase() {
+        new OffHeapNumberList(5);
+    }
+}
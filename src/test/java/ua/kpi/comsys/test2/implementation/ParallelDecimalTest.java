@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ParallelDecimalTest {
+    static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @AfterClass
+    public static void tearDownClass() {
+        POOL.shutdown();
+    }
+
+    @Test
+    public void testMatchesSequential() {
+        Random random = new Random(12);
+        for (int bits : new int[] {1, 100, 5_000, 40_000, 200_000}) {
+            NumberListImpl list = new NumberListImpl(new BigInteger(bits, random).toString());
+            for (int threshold : new int[] {1, 1000, Integer.MAX_VALUE}) {
+                assertEquals(list.toDecimalString(), list.toDecimalString(POOL, threshold));
+            }
+        }
+    }
+
+    @Test
+    public void testPowersOfTen() {
+        // границі кількості цифр: 10^k - 1 та 10^k
+        BigInteger power = BigInteger.TEN.pow(30_000);
+        for (BigInteger value : new BigInteger[] {power.subtract(BigInteger.ONE), power}) {
+            assertEquals(value.toString(), new NumberListImpl(value.toString()).toDecimalString(POOL, 100));
+        }
+        assertEquals("0", new NumberListImpl().toDecimalString(POOL, 100));
+    }
+
+    @Test
+    public void testSaveListMatchesSequential() throws IOException {
+        NumberListImpl list = new NumberListImpl(new BigInteger(100_000, new Random(13)).toString());
+        File sequential = folder.newFile();
+        File parallel = folder.newFile();
+        list.saveList(sequential);
+        list.saveList(parallel, POOL, 500);
+        assertArrayEquals(Files.readAllBytes(sequential.toPath()), Files.readAllBytes(parallel.toPath()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidThreshold() {
+        new NumberListImpl("12").toDecimalString(POOL, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullPoolWithCachedDecimal() {
+        NumberListImpl list = new NumberListImpl("12");
+        list.toDecimalString();
+        list.toDecimalString(null, 500);
+    }
+}
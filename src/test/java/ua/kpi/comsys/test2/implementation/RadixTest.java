@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RadixTest {
+    static final String DECIMAL = "1212144468782345613";
+    static final int[] RADIXES = {2, 3, 8, 10, 16};
+
+    private static NumberListImpl listOf(String digits, int radix) {
+        NumberListImpl list = new NumberListImpl(radix);
+        for (int i = 0; i < digits.length(); i++) {
+            list.add((byte) Character.digit(digits.charAt(i), radix));
+        }
+        return list;
+    }
+
+    @Test
+    public void testChangeScaleBetweenAllBases() {
+        BigInteger value = new BigInteger(DECIMAL);
+        for (int source : RADIXES) {
+            NumberListImpl list = listOf(value.toString(source), source);
+            assertEquals(DECIMAL, list.toDecimalString());
+            for (int target : RADIXES) {
+                NumberListImpl actual = list.changeScale(target);
+                assertEquals(source + " -> " + target, value.toString(target).toUpperCase(), actual.toString());
+                assertEquals(DECIMAL, actual.toDecimalString());
+            }
+        }
+    }
+
+    @Test
+    public void testChangeScaleRandom() {
+        Random random = new Random(21);
+        for (int bits : new int[] {1, 2, 3, 4, 5, 63, 64, 65, 700, 5000}) {
+            BigInteger value = new BigInteger(bits, random).setBit(bits - 1);
+            for (int source : RADIXES) {
+                NumberListImpl list = listOf(value.toString(source), source);
+                for (int target : RADIXES) {
+                    assertEquals(bits + ": " + source + " -> " + target,
+                            value.toString(target).toUpperCase(), list.changeScale(target).toString());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLeadingZerosAndZero() {
+        NumberListImpl hex = listOf("000F1", 16);
+        assertEquals("11110001", hex.changeScale(2).toString());
+        assertEquals("361", hex.changeScale(8).toString());
+        assertEquals("F1", hex.changeScale(16).toString());
+        assertEquals("241", hex.changeScale(10).toString());
+        assertEquals("241", hex.toDecimalString());
+
+        for (int source : RADIXES) {
+            NumberListImpl zero = listOf("000", source);
+            for (int target : RADIXES) {
+                assertTrue(zero.changeScale(target).isEmpty());
+            }
+            assertEquals("0", zero.toDecimalString());
+        }
+    }
+
+    @Test
+    public void testDecimalList() {
+        NumberListImpl list = listOf("0905", 10);
+        assertEquals("905", list.toDecimalString());
+        assertEquals("1110001001", list.changeScale(2).toString());
+        assertEquals("1020112", list.changeScale().toString());
+        list.add((byte) 9);
+        assertEquals("9059", list.toDecimalString());
+    }
+
+    @Test
+    public void testOperationsKeepBase() {
+        NumberListImpl a = listOf("FF", 16);
+        NumberListImpl b = listOf("1", 16);
+        assertEquals("100", a.plus(b).toString());
+        assertEquals("FE", a.minus(b).toString());
+        assertEquals("FE01", a.multiply(a).toString());
+        assertEquals("21", listOf("17", 8).plus(new NumberListImpl("2")).changeScale(8).toString());
+        assertEquals("15", a.additionalOperation(listOf("17", 10)).toDecimalString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDigitOutOfRange() {
+        new NumberListImpl(8).add((byte) 8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedRadix() {
+        new NumberListImpl(5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedTargetBase() {
+        new NumberListImpl("10").changeScale(12);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static ua.kpi.comsys.test2.implementation.TestLists.randomList;
+
+public class RemoveAllTest {
+
+    @Test
+    public void testRemoveAll() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(20), 3000, model);
+        assertTrue(list.removeAll(Collections.singleton((byte) 0)));
+        model.removeAll(Collections.singleton((byte) 0));
+        assertEquals(model, new ArrayList<>(list));
+
+        assertFalse(list.removeAll(Collections.singleton((byte) 0)));
+        assertFalse(list.removeAll(Arrays.asList(5, "1")));
+        assertTrue(list.removeAll(Arrays.asList((byte) 1)));
+        assertTrue(list.isEmpty());
+        assertEquals("", list.toString());
+    }
+
+    @Test
+    public void testRetainAll() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(21), 3000, model);
+        assertFalse(list.retainAll(Arrays.asList((byte) 0, (byte) 1)));
+        assertEquals(model, new ArrayList<>(list));
+
+        assertTrue(list.retainAll(Collections.singleton((byte) 1)));
+        model.retainAll(Collections.singleton((byte) 1));
+        assertEquals(model, new ArrayList<>(list));
+
+        assertTrue(list.retainAll(Collections.emptyList()));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testRemoveIf() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(22), 3000, model);
+        int[] position = {0};
+        int[] modelPosition = {0};
+        assertTrue(list.removeIf(digit -> position[0]++ % 3 == 0 && digit == 1));
+        model.removeIf(digit -> modelPosition[0]++ % 3 == 0 && digit == 1);
+        assertEquals(model, new ArrayList<>(list));
+        assertFalse(list.removeIf(digit -> digit > 1));
+    }
+
+    @Test
+    public void testRemoveIfFailureKeepsList() {
+        NumberListImpl list = new NumberListImpl("227");
+        try {
+            list.removeIf(digit -> {
+                if (digit == 0) {
+                    throw new IllegalStateException();
+                }
+                return true;
+            });
+        } catch (IllegalStateException e) {
+            assertEquals("11100011", list.toString());
+            return;
+        }
+        throw new AssertionError("IllegalStateException expected");
+    }
+
+    @Test
+    public void testListUsableAfterCompaction() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(23), 2000, model);
+        list.removeAll(Collections.singleton((byte) 0));
+        model.removeAll(Collections.singleton((byte) 0));
+
+        list.add(0, (byte) 0);
+        list.add(list.size() / 2, (byte) 0);
+        list.add((byte) 0);
+        list.remove(list.size() - 2);
+        list.shiftRight();
+        model.add(0, (byte) 0);
+        model.add(model.size() / 2, (byte) 0);
+        model.add((byte) 0);
+        model.remove(model.size() - 2);
+        model.add(0, model.remove(model.size() - 1));
+        assertEquals(model, new ArrayList<>(list));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(24), 3000, model);
+        Iterator<Byte> it = list.iterator();
+        Iterator<Byte> modelIt = model.iterator();
+        while (it.hasNext()) {
+            byte digit = it.next();
+            assertEquals((Byte) digit, modelIt.next());
+            if (digit == 0) {
+                it.remove();
+                modelIt.remove();
+            }
+        }
+        assertEquals(model, new ArrayList<>(list));
+
+        // видалення всіх цифр
+        for (it = list.iterator(); it.hasNext(); ) {
+            it.next();
+            it.remove();
+        }
+        assertTrue(list.isEmpty());
+        list.add((byte) 1);
+        assertEquals("1", list.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testIteratorRemoveTwice() {
+        Iterator<Byte> it = new NumberListImpl("5").iterator();
+        it.next();
+        it.remove();
+        it.remove();
+    }
+}
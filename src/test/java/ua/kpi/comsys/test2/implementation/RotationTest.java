@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static ua.kpi.comsys.test2.implementation.TestLists.randomList;
+
+public class RotationTest {
+
+    @Test
+    public void testShiftLeft() {
+        for (boolean doublyLinked : new boolean[] {false, true}) {
+            List<Byte> model = new ArrayList<>();
+            NumberListImpl list = randomList(new Random(23), 3000, model);
+            list.setDoublyLinked(doublyLinked);
+            for (int k : new int[] {1, 511, 512, 513, 1499, 1500, 1501, 2999, 3000, 7001}) {
+                list.shiftLeft(k);
+                Collections.rotate(model, -k);
+                assertEquals("k " + k, model, new ArrayList<>(list));
+            }
+        }
+    }
+
+    @Test
+    public void testShiftRight() {
+        for (boolean doublyLinked : new boolean[] {false, true}) {
+            List<Byte> model = new ArrayList<>();
+            NumberListImpl list = randomList(new Random(24), 3000, model);
+            list.setDoublyLinked(doublyLinked);
+            for (int k : new int[] {1, 511, 512, 513, 1499, 1500, 1501, 2999, 3000, 7001}) {
+                list.shiftRight(k);
+                Collections.rotate(model, k);
+                assertEquals("k " + k, model, new ArrayList<>(list));
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesSingleSteps() {
+        NumberListImpl list = new NumberListImpl("123456789012345678901234567890");
+        NumberListImpl stepwise = new NumberListImpl("123456789012345678901234567890");
+        list.shiftLeft(37);
+        for (int i = 0; i < 37; i++) {
+            stepwise.shiftLeft();
+        }
+        assertEquals(stepwise.toString(), list.toString());
+
+        list.shiftRight(12);
+        for (int i = 0; i < 12; i++) {
+            stepwise.shiftRight();
+        }
+        assertEquals(stepwise.toString(), list.toString());
+    }
+
+    @Test
+    public void testNegativeAndLargeDistance() {
+        NumberListImpl list = new NumberListImpl("227");
+        list.shiftLeft(-1);
+        assertEquals("11110001", list.toString());
+        list.shiftRight(-1);
+        assertEquals("11100011", list.toString());
+        list.shiftRight(Integer.MIN_VALUE);
+        assertEquals("11100011", list.toString());
+        list.shiftLeft(Integer.MAX_VALUE);
+        assertEquals("11110001", list.toString());
+    }
+
+    @Test
+    public void testSmallLists() {
+        NumberListImpl list = new NumberListImpl();
+        list.shiftLeft(5);
+        list.shiftRight(5);
+        assertTrue(list.isEmpty());
+        list.add((byte) 1);
+        list.shiftLeft(5);
+        assertEquals("1", list.toString());
+    }
+
+    @Test
+    public void testRepeatedRotationsKeepNodesFilled() {
+        List<Byte> model = new ArrayList<>();
+        NumberListImpl list = randomList(new Random(25), 100000, model);
+        double before = list.bytesPerDigit();
+        Random random = new Random(26);
+        for (int i = 0; i < 10000; i++) {
+            int k = random.nextInt(200000) - 100000;
+            list.shiftLeft(k);
+            Collections.rotate(model, -k);
+        }
+        assertEquals(model, new ArrayList<>(list));
+        assertTrue(list.bytesPerDigit() < 2 * before);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+public class SaveTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // число з кількома блоками запису десяткових цифр
+    static final BigInteger LONG_NUMBER = new BigInteger(600_000, new Random(7));
+
+    @Test
+    public void testWriteToStream() throws IOException {
+        NumberListImpl list = new NumberListImpl(LONG_NUMBER.toString());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeDecimal(out);
+        assertEquals(LONG_NUMBER.toString(), out.toString("US-ASCII"));
+    }
+
+    @Test
+    public void testWriteToAppendable() throws IOException {
+        NumberListImpl list = new NumberListImpl("227");
+        StringBuilder out = new StringBuilder("x=");
+        list.writeDecimal(out);
+        assertEquals("x=227", out.toString());
+    }
+
+    @Test
+    public void testWriteEmptyList() throws IOException {
+        StringBuilder out = new StringBuilder();
+        new NumberListImpl().writeDecimal(out);
+        assertEquals("0", out.toString());
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        NumberListImpl list = new NumberListImpl(LONG_NUMBER.toString());
+        File file = folder.newFile();
+        list.saveList(file);
+        assertEquals(LONG_NUMBER.toString(), new String(Files.readAllBytes(file.toPath()), StandardCharsets.US_ASCII));
+        assertEquals(list.toString(), NumberListImpl.load(file).toString());
+    }
+
+    @Test(expected = IOException.class)
+    public void testStreamFailure() throws IOException {
+        new NumberListImpl("1234").writeDecimal(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("closed");
+            }
+        });
+    }
+}
@@ -7,6 +7,9 @@
 
 package ua.kpi.comsys.test2.implementation;
 
+import java.math.BigInteger;
+import java.util.Random;
+
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -61,6 +64,22 @@ public class ScaleOfNotationChangeTest {
 
     }
 
+    @Test
+    public void testToTernaryLongNumber() {
+        assumeTrue(NumberListImpl.getRecordBookNumber() % 5  == 0);
+
+        BigInteger value = new BigInteger(50000, new Random(5));
+        NumberListImpl binary = new NumberListImpl(value.toString());
+        String binaryDigits = binary.toString();
+
+        actual = binary.changeScale();
+
+        assertNotNull("Result is null while it shouldn't!", actual);
+        assertEquals("Invalid result of changeScale() ", value.toString(3), actual.toString());
+        assertEquals("Invalid result of toDecimalString() ", value.toString(), actual.toDecimalString());
+        assertEquals("Invalid result of toString() ", binaryDigits, binary.toString());
+    }
+
     @Test
     public void testToOctal() {
         assumeTrue(NumberListImpl.getRecordBookNumber() % 5  == 1);
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigInteger;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+public class SnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private NumberListImpl roundTrip(NumberListImpl list) throws IOException {
+        File file = folder.newFile();
+        list.saveSnapshot(file);
+        return NumberListImpl.loadSnapshot(file);
+    }
+
+    @Test
+    public void testBinaryRoundTrip() throws IOException {
+        NumberListImpl list = new NumberListImpl(new BigInteger(100_000, new Random(8)).toString());
+        assertEquals(list.toString(), roundTrip(list).toString());
+    }
+
+    @Test
+    public void testTernaryRoundTrip() throws IOException {
+        NumberListImpl list = new NumberListImpl("1212144468782345613").changeScale();
+        NumberListImpl loaded = roundTrip(list);
+        assertEquals(list.toString(), loaded.toString());
+        assertEquals("1212144468782345613", loaded.toDecimalString());
+    }
+
+    @Test
+    public void testUnalignedNodes() throws IOException {
+        // вставки та видалення залишають вузли неповними
+        NumberListImpl list = new NumberListImpl(new BigInteger(5_000, new Random(9)).toString());
+        for (int i = 1; i < 1000; i += 7) {
+            list.remove(i);
+            list.add(i * 3, (byte) 1);
+        }
+        NumberListImpl loaded = roundTrip(list);
+        assertEquals(list.toString(), loaded.toString());
+        loaded.add((byte) 1);
+        assertEquals(list.size() + 1, loaded.size());
+    }
+
+    @Test
+    public void testEmptyList() throws IOException {
+        assertEquals(0, roundTrip(new NumberListImpl()).size());
+    }
+
+    @Test(expected = IOException.class)
+    public void testNotSnapshot() throws IOException {
+        NumberListImpl.loadSnapshot(new File(FileListTest.FILE_BIG));
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncatedSnapshot() throws IOException {
+        File file = folder.newFile();
+        new NumberListImpl("123456789012345678901234567890").saveSnapshot(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 8);
+        }
+        NumberListImpl.loadSnapshot(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidTernaryDigit() throws IOException {
+        File file = folder.newFile();
+        new NumberListImpl("100").changeScale().saveSnapshot(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(24);
+            raf.write(0x03); // цифра 3 у трійковій системі
+        }
+        NumberListImpl.loadSnapshot(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testOctalUnusedBit() throws IOException {
+        File file = folder.newFile();
+        new NumberListImpl(new BigInteger(300, new Random(10)).toString()).changeScale(8).saveSnapshot(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(31);
+            int top = raf.read();
+            raf.seek(31);
+            raf.write(top | 0x80); // біт 63 першого слова: 21 цифра займає лише 63 біти
+        }
+        NumberListImpl.loadSnapshot(file);
+    }
+}
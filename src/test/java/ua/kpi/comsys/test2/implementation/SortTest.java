@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class SortTest {
+    static String DECIMAL = "1212144468782345613";
+    static String BINARY = "1000011010010011001101111100011011110001110011110110110001101";
+    static String TERNARY = "22002001022022101111201212020022201000";
+
+    NumberListImpl list;
+
+    @After
+    public void tearDown() {
+        if (list != null) {
+            list.clear();
+            list = null;
+        }
+    }
+
+    private static String sorted(String digits, boolean ascending) {
+        char[] chars = digits.toCharArray();
+        java.util.Arrays.sort(chars);
+        String result = new String(chars);
+        return ascending ? result : new StringBuilder(result).reverse().toString();
+    }
+
+    @Test
+    public void testSortAscending() {
+        list = new NumberListImpl(DECIMAL);
+        list.sortAscending();
+
+        assertEquals("Invalid result of sortAscending() ", sorted(BINARY, true), list.toString());
+    }
+
+    @Test
+    public void testSortDescending() {
+        list = new NumberListImpl(DECIMAL);
+        list.sortDescending();
+
+        assertEquals("Invalid result of sortDescending() ", sorted(BINARY, false), list.toString());
+    }
+
+    @Test
+    public void testSortTernary() {
+        list = new NumberListImpl(DECIMAL).changeScale();
+
+        list.sortAscending();
+        assertEquals("Invalid result of sortAscending() ", sorted(TERNARY, true), list.toString());
+
+        list.sortDescending();
+        assertEquals("Invalid result of sortDescending() ", sorted(TERNARY, false), list.toString());
+    }
+
+    @Test
+    public void testSortLongList() {
+        list = new NumberListImpl();
+        for (int i = 0; i < 3000; i++) {
+            list.add((byte) (i % 5 == 0 ? 1 : 0));
+        }
+        list.sortDescending();
+
+        assertEquals("Wrong size", 3000, list.size());
+        assertEquals("Wrong position of the last one", 599, list.lastIndexOf((byte) 1));
+        assertEquals("Wrong position of the first zero", 600, list.indexOf((byte) 0));
+    }
+}
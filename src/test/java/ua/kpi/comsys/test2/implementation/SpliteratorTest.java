@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.math.BigInteger;
+import java.util.ConcurrentModificationException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SpliteratorTest {
+    static final BigInteger NUMBER = new BigInteger(20_000, new Random(11)).setBit(19_999);
+
+    @Test
+    public void testCharacteristics() {
+        Spliterator<Byte> spliterator = new NumberListImpl(NUMBER.toString()).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED
+                | Spliterator.SUBSIZED | Spliterator.NONNULL));
+        assertEquals(20_000, spliterator.estimateSize());
+        assertEquals(20_000, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void testSplitCoversAllDigits() {
+        NumberListImpl list = new NumberListImpl(NUMBER.toString());
+        Spliterator<Byte> second = list.spliterator();
+        Spliterator<Byte> first = second.trySplit();
+        assertEquals(10_000, first.estimateSize());
+        assertEquals(10_000, second.estimateSize());
+
+        StringBuilder digits = new StringBuilder();
+        first.forEachRemaining(digits::append);
+        second.tryAdvance(digits::append);
+        second.forEachRemaining(digits::append);
+        assertEquals(NUMBER.toString(2), digits.toString());
+    }
+
+    @Test
+    public void testParallelStream() {
+        NumberListImpl list = new NumberListImpl(NUMBER.toString());
+        assertEquals(NUMBER.bitCount(), list.stream().parallel().filter(d -> d == 1).count());
+        assertEquals(NUMBER.toString(2), list.parallelStream().map(String::valueOf).collect(Collectors.joining()));
+    }
+
+    @Test
+    public void testSmallList() {
+        NumberListImpl list = new NumberListImpl("5");
+        assertNull(list.spliterator().trySplit());
+        assertEquals(0, new NumberListImpl().stream().count());
+        assertEquals(2, list.stream().mapToInt(Byte::intValue).sum());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testFailFast() {
+        NumberListImpl list = new NumberListImpl(NUMBER.toString());
+        list.stream().forEach(d -> {
+            if (list.size() == 20_000) {
+                list.add((byte) 0);
+            }
+        });
+    }
+}
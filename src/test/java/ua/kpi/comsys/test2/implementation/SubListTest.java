@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static ua.kpi.comsys.test2.implementation.TestLists.binary;
+
+public class SubListTest {
+    static String BINARY = "1000011010010011001101111100011011110001110011110110110001101";
+
+    private static String digits(List<Byte> list) {
+        StringBuilder sb = new StringBuilder();
+        for (Byte digit : list) {
+            sb.append(digit);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testViewReadsAndWrites() {
+        NumberListImpl list = binary(BINARY);
+        List<Byte> view = list.subList(5, 20);
+        assertEquals(BINARY.substring(5, 20), digits(view));
+
+        view.set(0, (byte) 0);
+        list.set(19, (byte) 1);
+        assertEquals((byte) 0, (byte) list.get(5));
+        assertEquals((byte) 1, (byte) view.get(14));
+    }
+
+    @Test
+    public void testStructuralChangesThroughView() {
+        NumberListImpl list = binary(BINARY);
+        List<Byte> view = list.subList(10, 20);
+        view.add(0, (byte) 1);
+        view.remove(5);
+        view.add((byte) 0);
+        assertEquals(BINARY.length() + 1, list.size());
+        assertEquals(11, view.size());
+
+        StringBuilder expected = new StringBuilder(BINARY);
+        expected.insert(10, '1').deleteCharAt(15).insert(20, '0');
+        assertEquals(expected.toString(), list.toString());
+
+        view.clear();
+        assertEquals(BINARY.substring(0, 10) + BINARY.substring(20), list.toString());
+    }
+
+    @Test
+    public void testNestedViews() {
+        NumberListImpl list = binary(BINARY);
+        List<Byte> outer = list.subList(3, 40);
+        List<Byte> inner = outer.subList(2, 10);
+        assertEquals(BINARY.substring(5, 13), digits(inner));
+
+        inner.remove(0);
+        assertEquals(36, outer.size());
+        assertEquals(BINARY.length() - 1, list.size());
+    }
+
+    @Test
+    public void testIteratorThroughView() {
+        NumberListImpl list = binary(BINARY);
+        List<Byte> view = list.subList(8, 16);
+        ListIterator<Byte> it = view.listIterator();
+        while (it.hasNext()) {
+            if (it.next() == 1) {
+                it.remove();
+            }
+        }
+        assertEquals(BINARY.substring(8, 16).replace("1", ""), digits(view));
+        assertEquals(BINARY.length() - 4, list.size());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testFailFastAfterParentChange() {
+        NumberListImpl list = binary(BINARY);
+        List<Byte> view = list.subList(0, 5);
+        list.add((byte) 1);
+        view.get(0);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSiblingViewInvalidated() {
+        NumberListImpl list = binary(BINARY);
+        List<Byte> first = list.subList(0, 5);
+        List<Byte> second = list.subList(5, 10);
+        first.remove(0);
+        second.size();
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailFast() {
+        NumberListImpl list = binary(BINARY);
+        Iterator<Byte> it = list.iterator();
+        it.next();
+        list.remove(0);
+        it.next();
+    }
+
+    @Test
+    public void testViewsOverManyNodes() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            sb.append(BINARY);
+        }
+        String digits = sb.toString();
+        NumberListImpl list = binary(digits);
+        assertEquals(digits.substring(1000, 5000), digits(list.subList(1000, 5000)));
+        assertEquals(digits.substring(3000), list.subListCopy(3000, digits.length()).toString());
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        NumberListImpl list = binary(BINARY);
+        NumberListImpl copy = list.subListCopy(2, 12);
+        list.set(2, (byte) 1);
+        list.add(0, (byte) 1);
+        copy.set(0, (byte) 1);
+        assertEquals("1" + BINARY.substring(3, 12), copy.toString());
+        assertEquals(0, list.subListCopy(4, 4).size());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2014-2015, NTUU KPI, Computer systems department and/or its affiliates. All rights reserved.
+ * NTUU KPI PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
+ *
+ *
+ */
+
+package ua.kpi.comsys.test2.implementation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Спільні фікстури тестів: випадкові двійкові цифри та списки з них
+ */
+final class TestLists {
+
+    private TestLists() {
+    }
+
+    /**
+     * Повертає count випадкових двійкових цифр
+     */
+    static List<Byte> randomDigits(Random random, int count) {
+        List<Byte> digits = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            digits.add((byte) random.nextInt(2));
+        }
+        return digits;
+    }
+
+    /**
+     * Створює двійковий список з рядка двійкових цифр
+     */
+    static NumberListImpl binary(String digits) {
+        NumberListImpl list = new NumberListImpl();
+        for (char c : digits.toCharArray()) {
+            list.add((byte) (c - '0'));
+        }
+        return list;
+    }
+
+    /**
+     * Створює двійковий список з цифр digits
+     */
+    static NumberListImpl listOf(List<Byte> digits) {
+        return listOf(digits, list -> { });
+    }
+
+    /**
+     * Створює двійковий список, налаштовує його (configure викликається
+     * для порожнього списку) та додає цифри digits по одній
+     */
+    static NumberListImpl listOf(List<Byte> digits, Consumer<NumberListImpl> configure) {
+        NumberListImpl list = new NumberListImpl();
+        configure.accept(list);
+        for (Byte digit : digits) {
+            list.add(digit);
+        }
+        return list;
+    }
+
+    /**
+     * Створює список з count випадкових цифр; ті самі цифри дописуються в model
+     */
+    static NumberListImpl randomList(Random random, int count, List<Byte> model) {
+        return randomList(random, count, model, list -> { });
+    }
+
+    /**
+     * Створює налаштований configure список з count випадкових цифр;
+     * ті самі цифри дописуються в model
+     */
+    static NumberListImpl randomList(Random random, int count, List<Byte> model,
+                                     Consumer<NumberListImpl> configure) {
+        List<Byte> digits = randomDigits(random, count);
+        model.addAll(digits);
+        return listOf(digits, configure);
+    }
+}